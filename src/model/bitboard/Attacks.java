@@ -0,0 +1,49 @@
+package model.bitboard;
+
+import model.board.Geometry;
+import model.enums.Color;
+
+public final class Attacks {
+
+    private static final long[][] PAWN_ATTACKS = new long[2][64];
+    private static final long[] KNIGHT_ATTACKS = new long[64];
+    private static final long[] KING_ATTACKS = new long[64];
+
+    static {
+        for (int index = 0; index < 64; index++) {
+            for (Color color : Color.values()) {
+                PAWN_ATTACKS[color.ordinal()][index] = Geometry.pawnAttacks(color, index);
+            }
+            KNIGHT_ATTACKS[index] = Geometry.knightSquares(index);
+            KING_ATTACKS[index] = Geometry.kingSquares(index);
+        }
+    }
+
+    /**
+     * The squares a pawn of the color with the given ordinal attacks.
+     */
+    public static long pawn(int color, int index) {
+        return PAWN_ATTACKS[color][index];
+    }
+
+    public static long knight(int index) {
+        return KNIGHT_ATTACKS[index];
+    }
+
+    public static long king(int index) {
+        return KING_ATTACKS[index];
+    }
+
+    public static long rook(int index, long occupied) {
+        return Geometry.rookAttacks(index, occupied);
+    }
+
+    public static long bishop(int index, long occupied) {
+        return Geometry.bishopAttacks(index, occupied);
+    }
+
+    public static long queen(int index, long occupied) {
+        return rook(index, occupied) | bishop(index, occupied);
+    }
+
+}
@@ -0,0 +1,57 @@
+package model.bitboard;
+
+import model.enums.Rank;
+
+/**
+ * Moves packed into an int: the source square index in bits 0-5, the target
+ * in bits 6-11, a kind in bits 12-14 and, for a promotion, the ordinal of the
+ * rank promoted to in bits 15-17.
+ */
+public final class Move {
+
+    public static final int NORMAL = 0;
+    public static final int DOUBLE_PUSH = 1;
+    public static final int EN_PASSANT = 2;
+    public static final int CASTLE = 3;
+    public static final int PROMOTION = 4;
+
+    private static final String FILES = "abcdefgh";
+    private static final Rank[] RANKS = Rank.values();
+
+    static int of(int from, int to, int kind) {
+        return from | to << 6 | kind << 12;
+    }
+
+    static int promotion(int from, int to, Rank rank) {
+        return from | to << 6 | PROMOTION << 12 | rank.ordinal() << 15;
+    }
+
+    public static int from(int move) {
+        return move & 63;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 63;
+    }
+
+    public static int kind(int move) {
+        return (move >>> 12) & 7;
+    }
+
+    public static Rank promotedTo(int move) {
+        return RANKS[(move >>> 15) & 7];
+    }
+
+    public static String toString(int move) {
+        String text = square(from(move)) + square(to(move));
+        if (kind(move) == PROMOTION) {
+            text += promotedTo(move) == Rank.Knight ? 'n' : Character.toLowerCase(promotedTo(move).title().charAt(0));
+        }
+        return text;
+    }
+
+    static String square(int index) {
+        return "" + FILES.charAt(index & 7) + (char) ('1' + (index >>> 3));
+    }
+
+}
@@ -0,0 +1,155 @@
+package model.bitboard;
+
+import static model.bitboard.Position.BISHOP;
+import static model.bitboard.Position.BLACK_KING_SIDE;
+import static model.bitboard.Position.BLACK_QUEEN_SIDE;
+import static model.bitboard.Position.KING;
+import static model.bitboard.Position.KNIGHT;
+import static model.bitboard.Position.NONE;
+import static model.bitboard.Position.PAWN;
+import static model.bitboard.Position.QUEEN;
+import static model.bitboard.Position.ROOK;
+import static model.bitboard.Position.WHITE;
+import static model.bitboard.Position.WHITE_KING_SIDE;
+import static model.bitboard.Position.WHITE_QUEEN_SIDE;
+import static model.bitboard.Position.kind;
+
+import model.enums.Rank;
+
+public final class MoveGenerator {
+
+    public static final int MAX_MOVES = 256;
+
+    private static final long ROW_1 = 0xFFL;
+    private static final long ROW_8 = 0xFFL << 56;
+    private static final long ROW_3 = 0xFFL << 16;
+    private static final long ROW_6 = 0xFFL << 40;
+
+    private static final Rank[] PROMOTIONS = { Rank.Queen, Rank.Rook, Rank.Bishop, Rank.Knight };
+
+    /**
+     * Fills the array with the legal moves of the side to move and returns how
+     * many there are.
+     */
+    public static int legalMoves(Position position, int[] moves) {
+        int count = pseudoLegalMoves(position, moves);
+        int legal = 0;
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            position.make(move);
+            if (!position.leftKingAttacked()) {
+                moves[legal++] = move;
+            }
+            position.unmake(move);
+        }
+        return legal;
+    }
+
+    static int pseudoLegalMoves(Position position, int[] moves) {
+        int us = position.sideToMove;
+        int them = 1 - us;
+        long own = position.colors[us];
+        long occupied = own | position.colors[them];
+        long targets = ~own;
+        long[] pieces = position.pieces;
+
+        int count = pawnMoves(position, moves, 0, us, position.colors[them], occupied);
+
+        for (long from = pieces[kind(us, KNIGHT)]; from != 0; from &= from - 1) {
+            int index = Long.numberOfTrailingZeros(from);
+            count = add(moves, count, index, Attacks.knight(index) & targets);
+        }
+        for (long from = pieces[kind(us, BISHOP)]; from != 0; from &= from - 1) {
+            int index = Long.numberOfTrailingZeros(from);
+            count = add(moves, count, index, Attacks.bishop(index, occupied) & targets);
+        }
+        for (long from = pieces[kind(us, ROOK)]; from != 0; from &= from - 1) {
+            int index = Long.numberOfTrailingZeros(from);
+            count = add(moves, count, index, Attacks.rook(index, occupied) & targets);
+        }
+        for (long from = pieces[kind(us, QUEEN)]; from != 0; from &= from - 1) {
+            int index = Long.numberOfTrailingZeros(from);
+            count = add(moves, count, index, Attacks.queen(index, occupied) & targets);
+        }
+        for (long from = pieces[kind(us, KING)]; from != 0; from &= from - 1) {
+            int index = Long.numberOfTrailingZeros(from);
+            count = add(moves, count, index, Attacks.king(index) & targets);
+        }
+
+        return castlingMoves(position, moves, count, us, occupied);
+    }
+
+    private static int pawnMoves(Position position, int[] moves, int count, int us, long enemies, long occupied) {
+        long pawns = position.pieces[kind(us, PAWN)];
+        long empty = ~occupied;
+        int forward = us == WHITE ? 8 : -8;
+        long lastRow = us == WHITE ? ROW_8 : ROW_1;
+
+        long single = (us == WHITE ? pawns << 8 : pawns >>> 8) & empty;
+        long pushed = single & (us == WHITE ? ROW_3 : ROW_6);
+        long twice = (us == WHITE ? pushed << 8 : pushed >>> 8) & empty;
+
+        for (long to = single; to != 0; to &= to - 1) {
+            int index = Long.numberOfTrailingZeros(to);
+            count = addPawnMove(moves, count, index - forward, index, lastRow);
+        }
+        for (long to = twice; to != 0; to &= to - 1) {
+            int index = Long.numberOfTrailingZeros(to);
+            moves[count++] = Move.of(index - 2 * forward, index, Move.DOUBLE_PUSH);
+        }
+        for (long from = pawns; from != 0; from &= from - 1) {
+            int index = Long.numberOfTrailingZeros(from);
+            for (long to = Attacks.pawn(us, index) & enemies; to != 0; to &= to - 1) {
+                count = addPawnMove(moves, count, index, Long.numberOfTrailingZeros(to), lastRow);
+            }
+        }
+
+        int enPassant = position.enPassant;
+        if (enPassant != NONE) {
+            for (long from = Attacks.pawn(1 - us, enPassant) & pawns; from != 0; from &= from - 1) {
+                moves[count++] = Move.of(Long.numberOfTrailingZeros(from), enPassant, Move.EN_PASSANT);
+            }
+        }
+        return count;
+    }
+
+    private static int addPawnMove(int[] moves, int count, int from, int to, long lastRow) {
+        if ((lastRow & 1L << to) == 0) {
+            moves[count++] = Move.of(from, to, Move.NORMAL);
+            return count;
+        }
+        for (Rank rank : PROMOTIONS) {
+            moves[count++] = Move.promotion(from, to, rank);
+        }
+        return count;
+    }
+
+    private static int castlingMoves(Position position, int[] moves, int count, int us, long occupied) {
+        int them = 1 - us;
+        int castling = position.castling;
+        int king = us == WHITE ? 4 : 60;
+        int kingSide = us == WHITE ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+        int queenSide = us == WHITE ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+
+        if ((castling & (kingSide | queenSide)) == 0 || position.isAttacked(king, them)) {
+            return count;
+        }
+        if ((castling & kingSide) != 0 && (occupied & (3L << (king + 1))) == 0
+            && !position.isAttacked(king + 1, them) && !position.isAttacked(king + 2, them)) {
+            moves[count++] = Move.of(king, king + 2, Move.CASTLE);
+        }
+        if ((castling & queenSide) != 0 && (occupied & (7L << (king - 3))) == 0
+            && !position.isAttacked(king - 1, them) && !position.isAttacked(king - 2, them)) {
+            moves[count++] = Move.of(king, king - 2, Move.CASTLE);
+        }
+        return count;
+    }
+
+    private static int add(int[] moves, int count, int from, long targets) {
+        for (long to = targets; to != 0; to &= to - 1) {
+            moves[count++] = Move.of(from, Long.numberOfTrailingZeros(to), Move.NORMAL);
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,82 @@
+package model.bitboard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class Perft {
+
+    public static long perft(Position position, int depth) {
+        if (depth < 1) {
+            return 1;
+        }
+        return count(position, depth, new int[depth][MoveGenerator.MAX_MOVES]);
+    }
+
+    public static Map<String, Long> divide(Position position, int depth) {
+        Map<String, Long> nodes = new LinkedHashMap<String, Long>();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.legalMoves(position, moves);
+        for (int i = 0; i < count; i++) {
+            position.make(moves[i]);
+            nodes.put(Move.toString(moves[i]), perft(position, depth - 1));
+            position.unmake(moves[i]);
+        }
+        return nodes;
+    }
+
+    public static Result run(Position position, int depth) {
+        long start = System.nanoTime();
+        long nodes = perft(position, depth);
+        return new Result(depth, nodes, System.nanoTime() - start);
+    }
+
+    private static long count(Position position, int depth, int[][] moves) {
+        int[] buffer = moves[depth - 1];
+        int count = MoveGenerator.legalMoves(position, buffer);
+        if (depth == 1) {
+            return count;
+        }
+
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            position.make(buffer[i]);
+            nodes += count(position, depth - 1, moves);
+            position.unmake(buffer[i]);
+        }
+        return nodes;
+    }
+
+    public static final class Result {
+        private final int depth;
+        private final long nodes;
+        private final long elapsedNanos;
+
+        Result(int depth, long nodes, long elapsedNanos) {
+            this.depth = depth;
+            this.nodes = nodes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int depth() {
+            return depth;
+        }
+
+        public long nodes() {
+            return nodes;
+        }
+
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double mnps() {
+            return elapsedNanos == 0 ? 0 : nodes * 1000.0 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("perft(%d) = %d in %d ms, %.2f Mnps", depth, nodes, elapsedNanos / 1000000, mnps());
+        }
+    }
+
+}
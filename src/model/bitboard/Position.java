@@ -0,0 +1,299 @@
+package model.bitboard;
+
+import static model.board.Sugar.square;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.board.ChessBoard;
+import model.board.GameEvent;
+import model.enums.Color;
+import model.enums.GameEventType;
+import model.enums.Rank;
+import model.piece.Piece;
+
+public final class Position {
+
+    public static final String START = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    static final int BLACK = Color.BLACK.ordinal();
+    static final int WHITE = Color.WHITE.ordinal();
+
+    static final int PAWN = Rank.Pawn.ordinal();
+    static final int ROOK = Rank.Rook.ordinal();
+    static final int KNIGHT = Rank.Knight.ordinal();
+    static final int BISHOP = Rank.Bishop.ordinal();
+    static final int QUEEN = Rank.Queen.ordinal();
+    static final int KING = Rank.King.ordinal();
+
+    static final int WHITE_KING_SIDE = 1;
+    static final int WHITE_QUEEN_SIDE = 2;
+    static final int BLACK_KING_SIDE = 4;
+    static final int BLACK_QUEEN_SIDE = 8;
+
+    static final int EMPTY = -1;
+    static final int NONE = -1;
+
+    private static final String PIECE_LETTERS = "PRNBQK";
+    private static final int[] CASTLING_KEPT = new int[64];
+
+    static {
+        Arrays.fill(CASTLING_KEPT, WHITE_KING_SIDE | WHITE_QUEEN_SIDE | BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        CASTLING_KEPT[0] &= ~WHITE_QUEEN_SIDE;
+        CASTLING_KEPT[4] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        CASTLING_KEPT[7] &= ~WHITE_KING_SIDE;
+        CASTLING_KEPT[56] &= ~BLACK_QUEEN_SIDE;
+        CASTLING_KEPT[60] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        CASTLING_KEPT[63] &= ~BLACK_KING_SIDE;
+    }
+
+    final long[] pieces = new long[12];
+    final long[] colors = new long[2];
+    final int[] squares = new int[64];
+    int sideToMove;
+    int castling;
+    int enPassant = NONE;
+
+    private int[] undo = new int[64];
+    private int ply;
+
+    private Position() {
+        Arrays.fill(squares, EMPTY);
+    }
+
+    public static Position fromFen(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("Not a FEN position: " + fen);
+        }
+
+        Position position = new Position();
+        int row = 7;
+        int column = 0;
+        for (char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                row--;
+                column = 0;
+            } else if (Character.isDigit(c)) {
+                column += c - '0';
+            } else {
+                int rank = PIECE_LETTERS.indexOf(Character.toUpperCase(c));
+                if (rank < 0 || row < 0 || column > 7) {
+                    throw new IllegalArgumentException("Not a FEN position: " + fen);
+                }
+                position.put(kind(Character.isUpperCase(c) ? WHITE : BLACK, rank), row * 8 + column++);
+            }
+        }
+
+        position.sideToMove = fields[1].equals("w") ? WHITE : BLACK;
+        for (char c : fields[2].toCharArray()) {
+            position.castling |= "KQkq".indexOf(c) < 0 ? 0 : 1 << "KQkq".indexOf(c);
+        }
+        if (!fields[3].equals("-")) {
+            position.enPassant = (fields[3].charAt(1) - '1') * 8 + (fields[3].charAt(0) - 'a');
+        }
+        return position;
+    }
+
+    /**
+     * A castling right is kept while the king and the rook stand on their
+     * starting squares and no event of the board has left or landed on either.
+     * The en passant square is set when the last event moved a pawn two squares.
+     */
+    public static Position of(ChessBoard board, Color toMove) {
+        Position position = new Position();
+        for (int index = 0; index < 64; index++) {
+            Piece piece = board.pieceAt(square(index));
+            if (piece != null) {
+                position.put(kind(piece.color().ordinal(), piece.rank().ordinal()), index);
+            }
+        }
+        position.sideToMove = toMove.ordinal();
+
+        List<GameEvent> events = board.gameEvents();
+        position.castling = position.castlingRight(events, WHITE, 4, 7, WHITE_KING_SIDE)
+            | position.castlingRight(events, WHITE, 4, 0, WHITE_QUEEN_SIDE)
+            | position.castlingRight(events, BLACK, 60, 63, BLACK_KING_SIDE)
+            | position.castlingRight(events, BLACK, 60, 56, BLACK_QUEEN_SIDE);
+
+        if (!events.isEmpty()) {
+            GameEvent last = events.get(events.size() - 1);
+            int from = last.type() == GameEventType.MOVE ? last.source().index() : 0;
+            int to = last.type() == GameEventType.MOVE ? last.target().index() : 0;
+            if (Math.abs(to - from) == 16 && position.squares[to] == kind(1 - position.sideToMove, PAWN)) {
+                position.enPassant = (from + to) / 2;
+            }
+        }
+        return position;
+    }
+
+    private int castlingRight(List<GameEvent> events, int color, int king, int rook, int right) {
+        if (squares[king] != kind(color, KING) || squares[rook] != kind(color, ROOK)) {
+            return 0;
+        }
+        for (GameEvent event : events) {
+            if (event.type() == GameEventType.MOVE || event.type() == GameEventType.CAPTURE) {
+                int from = event.source().index();
+                int to = event.target().index();
+                if (from == king || from == rook || to == king || to == rook) {
+                    return 0;
+                }
+            }
+        }
+        return right;
+    }
+
+    public Color sideToMove() {
+        return Color.values()[sideToMove];
+    }
+
+    public boolean isInCheck() {
+        return isKingAttacked(sideToMove);
+    }
+
+    boolean isAttacked(int index, int byColor) {
+        long occupied = colors[WHITE] | colors[BLACK];
+        int first = byColor * 6;
+        long queens = pieces[first + QUEEN];
+        return (Attacks.pawn(1 - byColor, index) & pieces[first + PAWN]) != 0
+            || (Attacks.knight(index) & pieces[first + KNIGHT]) != 0
+            || (Attacks.king(index) & pieces[first + KING]) != 0
+            || (Attacks.bishop(index, occupied) & (pieces[first + BISHOP] | queens)) != 0
+            || (Attacks.rook(index, occupied) & (pieces[first + ROOK] | queens)) != 0;
+    }
+
+    boolean leftKingAttacked() {
+        return isKingAttacked(1 - sideToMove);
+    }
+
+    private boolean isKingAttacked(int color) {
+        long king = pieces[kind(color, KING)];
+        return king != 0 && isAttacked(Long.numberOfTrailingZeros(king), 1 - color);
+    }
+
+    public void make(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int kind = Move.kind(move);
+        int us = sideToMove;
+        int piece = squares[from];
+        int captured = squares[to];
+
+        if (ply == undo.length) {
+            undo = Arrays.copyOf(undo, ply * 2);
+        }
+        undo[ply++] = (captured + 1) | castling << 4 | (enPassant + 1) << 8;
+
+        if (captured != EMPTY) {
+            remove(captured, to);
+        }
+        remove(piece, from);
+        put(kind == Move.PROMOTION ? kind(us, Move.promotedTo(move).ordinal()) : piece, to);
+
+        if (kind == Move.EN_PASSANT) {
+            remove(kind(1 - us, PAWN), to + (us == WHITE ? -8 : 8));
+        } else if (kind == Move.CASTLE) {
+            moveCastlingRook(to, false);
+        }
+
+        castling &= CASTLING_KEPT[from] & CASTLING_KEPT[to];
+        enPassant = kind == Move.DOUBLE_PUSH ? (from + to) / 2 : NONE;
+        sideToMove = 1 - us;
+    }
+
+    public void unmake(int move) {
+        int from = Move.from(move);
+        int to = Move.to(move);
+        int kind = Move.kind(move);
+        int us = 1 - sideToMove;
+        int state = undo[--ply];
+        int captured = (state & 15) - 1;
+
+        sideToMove = us;
+        castling = (state >>> 4) & 15;
+        enPassant = (state >>> 8) - 1;
+
+        int piece = squares[to];
+        remove(piece, to);
+        put(kind == Move.PROMOTION ? kind(us, PAWN) : piece, from);
+        if (captured != EMPTY) {
+            put(captured, to);
+        }
+
+        if (kind == Move.EN_PASSANT) {
+            put(kind(1 - us, PAWN), to + (us == WHITE ? -8 : 8));
+        } else if (kind == Move.CASTLE) {
+            moveCastlingRook(to, true);
+        }
+    }
+
+    private void moveCastlingRook(int kingTarget, boolean back) {
+        int rook = kingTarget > (kingTarget & ~7) + 4 ? kingTarget + 1 : kingTarget - 2;
+        int rookTarget = kingTarget > (kingTarget & ~7) + 4 ? kingTarget - 1 : kingTarget + 1;
+        int piece = squares[back ? rookTarget : rook];
+        remove(piece, back ? rookTarget : rook);
+        put(piece, back ? rook : rookTarget);
+    }
+
+    private void put(int piece, int index) {
+        long bit = 1L << index;
+        pieces[piece] |= bit;
+        colors[piece / 6] |= bit;
+        squares[index] = piece;
+    }
+
+    private void remove(int piece, int index) {
+        long bit = ~(1L << index);
+        pieces[piece] &= bit;
+        colors[piece / 6] &= bit;
+        squares[index] = EMPTY;
+    }
+
+    static int kind(int color, int rank) {
+        return color * 6 + rank;
+    }
+
+    public String fen() {
+        StringBuilder fen = new StringBuilder();
+        for (int row = 7; row >= 0; row--) {
+            int empty = 0;
+            for (int column = 0; column < 8; column++) {
+                int piece = squares[row * 8 + column];
+                if (piece == EMPTY) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+                char letter = PIECE_LETTERS.charAt(piece % 6);
+                fen.append(piece / 6 == WHITE ? letter : Character.toLowerCase(letter));
+            }
+            if (empty > 0) {
+                fen.append(empty);
+            }
+            if (row > 0) {
+                fen.append('/');
+            }
+        }
+
+        fen.append(sideToMove == WHITE ? " w " : " b ");
+        for (int right = 0; right < 4; right++) {
+            if ((castling & 1 << right) != 0) {
+                fen.append("KQkq".charAt(right));
+            }
+        }
+        if (castling == 0) {
+            fen.append('-');
+        }
+        fen.append(' ').append(enPassant == NONE ? "-" : Move.square(enPassant)).append(" 0 1");
+        return fen.toString();
+    }
+
+    @Override
+    public String toString() {
+        return fen();
+    }
+
+}
@@ -1,106 +1,133 @@
 package model.board;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 import model.enums.Color;
+import model.enums.Rank;
 import model.piece.Piece;
+import model.piece.PieceFactory;
 
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableList;
 
 final class BackingMap {
 
-    private ImmutableMap<Square, Piece> backingMap = null;
-    private ImmutableMap<Piece, Square> invertedBackingMap = null;
+    private static final int SQUARE_COUNT = 64;
+    private static final int RANKS = Rank.values().length;
+    private static final int KINDS = Color.values().length * RANKS;
+
+    private final Piece[] piecesBySquare;
+    private final byte[] squaresByPieceId;
+    private final long[] occupancyByKind;
+    private List<Piece> blackPieces;
+    private List<Piece> whitePieces;
+    private int hashCode;
+    private volatile BoardCache sharedCache;
 
     BackingMap() {
-        this.backingMap = new ImmutableMap.Builder<Square, Piece>().build();
-        this.invertedBackingMap = new ImmutableMap.Builder<Piece, Square>().build();
+        this(new Piece[SQUARE_COUNT], new byte[PieceFactory.PIECE_COUNT], new long[KINDS]);
+    }
+
+    BackingMap(Piece[] piecesBySquare) {
+        this.piecesBySquare = piecesBySquare.clone();
+        this.squaresByPieceId = new byte[PieceFactory.PIECE_COUNT];
+        this.occupancyByKind = new long[KINDS];
+        for (int index = 0; index < SQUARE_COUNT; index++) {
+            Piece piece = piecesBySquare[index];
+            if (piece != null) {
+                squaresByPieceId[piece.id()] = (byte) (index + 1);
+                occupancyByKind[kind(piece)] |= 1L << index;
+            }
+        }
+    }
+
+    /**
+     * Takes ownership of the arrays. A piece's entry in squaresByPieceId is
+     * its square index plus one, or zero when it is not on the board.
+     */
+    private BackingMap(Piece[] piecesBySquare, byte[] squaresByPieceId, long[] occupancyByKind) {
+        this.piecesBySquare = piecesBySquare;
+        this.squaresByPieceId = squaresByPieceId;
+        this.occupancyByKind = occupancyByKind;
     }
 
+    /**
+     * Returns null for a null square, as views ask about the squares beyond
+     * the edge of the board.
+     */
     Piece getPieceAt(Square square) {
-        return backingMap.get(square);
+        return square == null ? null : piecesBySquare[square.index()];
     }
 
     Square getSquareHolding(Piece piece) {
-        return invertedBackingMap.get(piece);
+        int square = squaresByPieceId[piece.id()];
+        return square == 0 ? null : Sugar.square(square - 1);
     }
 
     List<Piece> pieces(Color color) {
-        List<Piece> pieces = new ArrayList<Piece>();
-
-        for (Piece piece : invertedBackingMap.keySet()) {
-            if (piece.color().equals(color)) {
-                pieces.add(piece);
+        List<Piece> pieces = color == Color.BLACK ? blackPieces : whitePieces;
+        if (pieces == null) {
+            pieces = piecesOn(occupancy(color));
+            if (color == Color.BLACK) {
+                blackPieces = pieces;
+            } else {
+                whitePieces = pieces;
             }
         }
-
         return pieces;
     }
 
-    BackingMap put(Square square, Piece piece) {
-        validatePutArgs(square, piece);
-        return new BackingMap(newBackingMapAfterPut(square, piece));
+    List<Piece> piecesOn(long squares) {
+        ImmutableList.Builder<Piece> pieces = ImmutableList.builder();
+        for (long remaining = squares; remaining != 0; remaining &= remaining - 1) {
+            pieces.add(piecesBySquare[Long.numberOfTrailingZeros(remaining)]);
+        }
+        return pieces.build();
     }
 
-    BackingMap move(Square source, Square target) {
-        validateMoveArgs(source, target);
-        return new BackingMap(newBackingMapAfterMoveOrCapture(source, target));
+    long occupancy(Color color) {
+        long occupancy = 0;
+        int first = color.ordinal() * RANKS;
+        for (int kind = first; kind < first + RANKS; kind++) {
+            occupancy |= occupancyByKind[kind];
+        }
+        return occupancy;
     }
 
-    BackingMap capture(Square source, Square target) {
-        validateCaptureArgs(source, target);
-        return new BackingMap(newBackingMapAfterMoveOrCapture(source, target));
+    long occupancy(Color color, Rank rank) {
+        return occupancyByKind[color.ordinal() * RANKS + rank.ordinal()];
     }
 
-    BackingMap remove(Square source) {
-        validateRemoveArgs(source);
-        return new BackingMap(newBackingMapAfterRemove(source));
+    long occupancy() {
+        return occupancy(Color.BLACK) | occupancy(Color.WHITE);
     }
 
-    private BackingMap(Map<Square, Piece> mutableMap) {
-        this.backingMap = new ImmutableMap.Builder<Square, Piece>().putAll(mutableMap).build();
-        this.invertedBackingMap = new ImmutableMap.Builder<Piece, Square>().putAll(invertMap()).build();
+    private static int kind(Piece piece) {
+        return piece.color().ordinal() * RANKS + piece.rank().ordinal();
     }
 
-    private Map<Piece, Square> invertMap() {
-        Map<Piece, Square> invertedMap = new HashMap<Piece, Square>();
-        for (Square square : backingMap.keySet()) {
-            invertedMap.put(backingMap.get(square), square);
-        }
-        return invertedMap;
+    BackingMap put(Square square, Piece piece) {
+        return builder().put(square, piece).release();
     }
 
-    private Map<Square, Piece> newBackingMapAfterPut(Square square, Piece piece) {
-        Map<Square, Piece> map = new HashMap<Square, Piece>(backingMap);
-        map.put(square, piece);
-        return map;
+    BackingMap move(Square source, Square target) {
+        return builder().move(source, target).release();
     }
 
-    private Map<Square, Piece> newBackingMapAfterMoveOrCapture(Square source, Square target) {
-        Map<Square, Piece> map = new HashMap<Square, Piece>(backingMap);
-        map.put(target, map.get(source));
-        map.remove(source);
-        return map;
+    BackingMap capture(Square source, Square target) {
+        return builder().capture(source, target).release();
     }
 
-    private Map<Square, Piece> newBackingMapAfterRemove(Square square) {
-        Map<Square, Piece> map = new HashMap<Square, Piece>(backingMap);
-        map.remove(square);
-        return map;
+    BackingMap remove(Square source) {
+        return builder().remove(source).release();
     }
 
-    private boolean isOnBoard(Piece piece) {
-        if (getSquareHolding(piece) != null) {
-            return true;
-        }
-        return false;
+    Builder builder() {
+        return new Builder(this);
     }
 
     boolean isOccupied(Square square) {
-        return backingMap.containsKey(square);
+        return getPieceAt(square) != null;
     }
 
     boolean isNotOccupied(Square target) {
@@ -108,48 +135,184 @@ final class BackingMap {
     }
 
     boolean isEmpty() {
-        return backingMap.isEmpty();
+        return occupancy() == 0;
+    }
+
+    int size() {
+        return Long.bitCount(occupancy());
     }
 
-    private void validatePutArgs(Square target, Piece piece) {
-        if (isOccupied(target)) {
+    private static void validatePutArgs(Piece[] piecesBySquare, byte[] squaresByPieceId, Square target,
+        Piece piece) {
+        if (piecesBySquare[target.index()] != null) {
             throw new IllegalArgumentException("Attempted to put a piece on an occupied square!");
         }
-        if (isOnBoard(piece)) {
+        if (squaresByPieceId[piece.id()] != 0) {
             throw new IllegalArgumentException("Attempted to put the same piece on the board twice!");
         }
     }
 
-    private void validateMoveArgs(Square source, Square target) {
-        if (isNotOccupied(source)) {
+    private static void validateMoveArgs(Piece[] piecesBySquare, Square source, Square target) {
+        if (piecesBySquare[source.index()] == null) {
             throw new IllegalArgumentException("Attempted to move from an empty square!");
         }
-        if (isOccupied(target)) {
+        if (piecesBySquare[target.index()] != null) {
             throw new IllegalArgumentException("Attempted to move a piece on an occupied square!");
         }
     }
 
-    private void validateCaptureArgs(Square source, Square target) {
-        if (isNotOccupied(source)) {
+    private static void validateCaptureArgs(Piece[] piecesBySquare, Square source, Square target) {
+        if (piecesBySquare[source.index()] == null) {
             throw new IllegalArgumentException("Attempted to replace from an empty square!");
         }
-        if (isNotOccupied(target)) {
+        if (piecesBySquare[target.index()] == null) {
             throw new IllegalArgumentException("Attempted to replace on an empty square!");
         }
     }
 
-    private void validateRemoveArgs(Square source) {
-        if (isNotOccupied(source)) {
+    private static void validateRemoveArgs(Piece[] piecesBySquare, Square source) {
+        if (piecesBySquare[source.index()] == null) {
             throw new IllegalArgumentException("Attempted to remove a piece on an empty square!");
         }
     }
 
+    static final class Builder {
+        private final Piece[] piecesBySquare;
+        private final byte[] squaresByPieceId;
+        private final long[] occupancyByKind;
+        private int size;
+
+        private Builder(BackingMap backingMap) {
+            this.piecesBySquare = backingMap.piecesBySquare.clone();
+            this.squaresByPieceId = backingMap.squaresByPieceId.clone();
+            this.occupancyByKind = backingMap.occupancyByKind.clone();
+            this.size = backingMap.size();
+        }
+
+        Builder put(Square square, Piece piece) {
+            validatePutArgs(piecesBySquare, squaresByPieceId, square, piece);
+            piecesBySquare[square.index()] = piece;
+            squaresByPieceId[piece.id()] = (byte) (square.index() + 1);
+            occupancyByKind[kind(piece)] |= 1L << square.index();
+            size++;
+            return this;
+        }
+
+        Builder move(Square source, Square target) {
+            validateMoveArgs(piecesBySquare, source, target);
+            return moveOrCapture(source, target);
+        }
+
+        Builder capture(Square source, Square target) {
+            validateCaptureArgs(piecesBySquare, source, target);
+            return moveOrCapture(source, target);
+        }
+
+        Builder remove(Square source) {
+            validateRemoveArgs(piecesBySquare, source);
+            Piece piece = piecesBySquare[source.index()];
+            piecesBySquare[source.index()] = null;
+            squaresByPieceId[piece.id()] = 0;
+            occupancyByKind[kind(piece)] &= ~(1L << source.index());
+            size--;
+            return this;
+        }
+
+        Builder apply(GameEvent event) {
+            switch (event.type()) {
+                case PUT:
+                    return put(event.target(), ((PutEvent) event).piece());
+                case REMOVE:
+                    return remove(event.source());
+                case MOVE:
+                    return move(event.source(), event.target());
+                case CAPTURE:
+                    return capture(event.source(), event.target());
+                default:
+                    throw new IllegalArgumentException("Event Type: " + event.type() + " Not Supported!");
+            }
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        Piece[] piecesBySquare() {
+            return piecesBySquare.clone();
+        }
+
+        BackingMap build() {
+            return new BackingMap(piecesBySquare.clone(), squaresByPieceId.clone(), occupancyByKind.clone());
+        }
+
+        /**
+         * Builds without copying. The builder must not be used afterwards.
+         */
+        private BackingMap release() {
+            return new BackingMap(piecesBySquare, squaresByPieceId, occupancyByKind);
+        }
+
+        private Builder moveOrCapture(Square source, Square target) {
+            Piece piece = piecesBySquare[source.index()];
+            Piece captured = piecesBySquare[target.index()];
+            if (captured != null) {
+                squaresByPieceId[captured.id()] = 0;
+                occupancyByKind[kind(captured)] &= ~(1L << target.index());
+                size--;
+            }
+            piecesBySquare[source.index()] = null;
+            piecesBySquare[target.index()] = piece;
+            squaresByPieceId[piece.id()] = (byte) (target.index() + 1);
+            occupancyByKind[kind(piece)] ^= 1L << source.index() | 1L << target.index();
+            return this;
+        }
+    }
+
+    BoardCache sharedCache() {
+        return sharedCache;
+    }
+
+    /**
+     * The first cache shared wins; later callers get it back.
+     */
+    BoardCache shareCache(BoardCache cache) {
+        BoardCache shared = sharedCache;
+        if (shared == null) {
+            synchronized (this) {
+                if (sharedCache == null) {
+                    sharedCache = cache;
+                }
+                shared = sharedCache;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * An estimate, assuming compressed references and 8-byte alignment.
+     */
+    long bytes() {
+        long bytes = aligned(12 + 4 * 7) + aligned(16 + 4 * piecesBySquare.length)
+            + aligned(16 + squaresByPieceId.length) + aligned(16 + 8 * occupancyByKind.length);
+        for (List<Piece> pieces : Arrays.asList(blackPieces, whitePieces)) {
+            if (pieces != null) {
+                bytes += aligned(12 + 4 * 3) + aligned(16 + 4 * pieces.size());
+            }
+        }
+        return bytes;
+    }
+
+    private static long aligned(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((backingMap == null) ? 0 : backingMap.hashCode());
-        result = prime * result + ((invertedBackingMap == null) ? 0 : invertedBackingMap.hashCode());
+        int result = hashCode;
+        if (result == 0) {
+            result = Arrays.hashCode(piecesBySquare);
+            hashCode = result;
+        }
         return result;
     }
 
@@ -162,17 +325,9 @@ final class BackingMap {
         if (getClass() != obj.getClass())
             return false;
         BackingMap other = (BackingMap) obj;
-        if (backingMap == null) {
-            if (other.backingMap != null)
-                return false;
-        } else if (!backingMap.equals(other.backingMap))
-            return false;
-        if (invertedBackingMap == null) {
-            if (other.invertedBackingMap != null)
-                return false;
-        } else if (!invertedBackingMap.equals(other.invertedBackingMap))
+        if (hashCode() != other.hashCode())
             return false;
-        return true;
+        return Arrays.equals(piecesBySquare, other.piecesBySquare);
     }
 
 }
@@ -0,0 +1,71 @@
+package model.board;
+
+import java.util.List;
+
+import model.enums.Color;
+import model.piece.Piece;
+
+/**
+ * The lists agree with {@link Piece#opponentsAttackingMe(ChessBoard)} and
+ * {@link Piece#teammatesDefendingMe(ChessBoard)}, in square order.
+ */
+public final class BoardAnalysis {
+
+    private final BackingMap map;
+    private final long[] reachedBy = new long[2 * 64];
+
+    BoardAnalysis(BackingMap map) {
+        this.map = map;
+        for (long squares = map.occupancy(); squares != 0; squares &= squares - 1) {
+            int index = Long.numberOfTrailingZeros(squares);
+            Piece piece = map.getPieceAt(Sugar.square(index));
+            int first = piece.color().ordinal() * 64;
+            for (long targets = Mobility.attacks(map, piece, index); targets != 0; targets &= targets - 1) {
+                reachedBy[first + Long.numberOfTrailingZeros(targets)] |= Geometry.bit(index);
+            }
+        }
+    }
+
+    public List<Piece> attackers(Piece piece) {
+        return map.piecesOn(reaching(piece, piece.color().opponentColor()));
+    }
+
+    public List<Piece> defenders(Piece piece) {
+        return map.piecesOn(reaching(piece, piece.color()));
+    }
+
+    public boolean isHanging(Piece piece) {
+        return reaching(piece, piece.color().opponentColor()) != 0 && reaching(piece, piece.color()) == 0;
+    }
+
+    public List<Piece> hangingPieces(Color color) {
+        long hanging = 0;
+        for (long squares = map.occupancy(color); squares != 0; squares &= squares - 1) {
+            int index = Long.numberOfTrailingZeros(squares);
+            if (reachedBy[color.opponentColor().ordinal() * 64 + index] != 0
+                && reachedBy[color.ordinal() * 64 + index] == 0) {
+                hanging |= Geometry.bit(index);
+            }
+        }
+        return map.piecesOn(hanging);
+    }
+
+    public int control(Square square, Color color) {
+        return Long.bitCount(reachedBy[color.ordinal() * 64 + square.index()]);
+    }
+
+    /**
+     * The color with more pieces reaching the square, or null if neither has.
+     */
+    public Color controllingColor(Square square) {
+        int white = control(square, Color.WHITE);
+        int black = control(square, Color.BLACK);
+        return white == black ? null : white > black ? Color.WHITE : Color.BLACK;
+    }
+
+    private long reaching(Piece piece, Color color) {
+        Square square = map.getSquareHolding(piece);
+        return square == null ? 0 : reachedBy[color.ordinal() * 64 + square.index()];
+    }
+
+}
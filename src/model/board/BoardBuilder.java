@@ -0,0 +1,39 @@
+package model.board;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.enums.Color;
+import model.enums.GameEventType;
+import model.enums.Rank;
+
+public final class BoardBuilder {
+
+    private final BackingMap.Builder backingMap = new BackingMap().builder();
+    private final List<GameEvent> putEvents = new ArrayList<GameEvent>();
+
+    public BoardBuilder put(PutEvent put) {
+        backingMap.put(put.target(), put.piece());
+        putEvents.add(put);
+        return this;
+    }
+
+    public BoardBuilder put(Color color, Rank rank, Square square) {
+        return put(Sugar.put(color, rank, square));
+    }
+
+    public BoardBuilder putAll(List<? extends GameEvent> events) {
+        for (GameEvent event : events) {
+            if (event.type() != GameEventType.PUT) {
+                throw new IllegalArgumentException("Only puts can be used to build a board! Got: " + event);
+            }
+            put((PutEvent) event);
+        }
+        return this;
+    }
+
+    public ChessBoard build() {
+        return new ChessBoard(new ArrayList<GameEvent>(putEvents), backingMap.build(), false);
+    }
+
+}
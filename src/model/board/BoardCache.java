@@ -0,0 +1,126 @@
+package model.board;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import model.board.views.RankView;
+import model.enums.Color;
+import model.piece.Piece;
+
+/**
+ * Everything here depends only on the position. The first entry stored
+ * for a key is kept and shared by every later caller.
+ */
+final class BoardCache {
+
+    private final AtomicReferenceArray<RankView> views = new AtomicReferenceArray<RankView>(64);
+    private final AtomicReferenceArray<List<GameEvent>> possibleEvents = new AtomicReferenceArray<List<GameEvent>>(
+        64);
+    private final AtomicReferenceArray<List<GameEvent>> potentialGameEvents = new AtomicReferenceArray<List<GameEvent>>(
+        2);
+    private final AtomicReferenceArray<List<GameEvent>> legalGameEvents = new AtomicReferenceArray<List<GameEvent>>(
+        2);
+    private final AtomicReference<BoardAnalysis> analysis = new AtomicReference<BoardAnalysis>();
+
+    RankView view(Square square) {
+        return views.get(square.index());
+    }
+
+    RankView cacheView(Square square, RankView view) {
+        views.compareAndSet(square.index(), null, view);
+        return views.get(square.index());
+    }
+
+    List<GameEvent> possibleEvents(Square square) {
+        return possibleEvents.get(square.index());
+    }
+
+    List<GameEvent> cachePossibleEvents(Square square, List<GameEvent> events) {
+        possibleEvents.compareAndSet(square.index(), null, events);
+        return possibleEvents.get(square.index());
+    }
+
+    List<GameEvent> potentialGameEvents(int color) {
+        return potentialGameEvents.get(color);
+    }
+
+    List<GameEvent> legalGameEvents(int color) {
+        return legalGameEvents.get(color);
+    }
+
+    List<GameEvent> cacheLegalGameEvents(int color, List<GameEvent> events) {
+        legalGameEvents.compareAndSet(color, null, events);
+        return legalGameEvents.get(color);
+    }
+
+    List<GameEvent> cachePotentialGameEvents(int color, List<GameEvent> events) {
+        potentialGameEvents.compareAndSet(color, null, events);
+        return potentialGameEvents.get(color);
+    }
+
+    BoardAnalysis analysis() {
+        return analysis.get();
+    }
+
+    BoardAnalysis cacheAnalysis(BoardAnalysis analysis) {
+        this.analysis.compareAndSet(null, analysis);
+        return this.analysis.get();
+    }
+
+    /**
+     * Kings are left out, since their moves depend on every opposing piece.
+     */
+    static BoardCache inherit(BoardCache parent, BackingMap parentMap, BackingMap childMap, int source, int target) {
+        BoardCache child = new BoardCache();
+        long before = parentMap.occupancy();
+        long after = childMap.occupancy();
+
+        for (int index = 0; index < 64; index++) {
+            List<GameEvent> events = parent.possibleEvents.get(index);
+            if (events != null && index != source && index != target) {
+                Piece piece = childMap.getPieceAt(Sugar.square(index));
+                if (!reaches(piece, index, source, before, after) && !reaches(piece, index, target, before, after)) {
+                    child.possibleEvents.set(index, events);
+                }
+            }
+        }
+        return child;
+    }
+
+    private static boolean reaches(Piece piece, int index, int square, long before, long after) {
+        switch (piece.rank()) {
+            case King:
+                return true;
+            case Knight:
+                return (Geometry.knightSquares(index) & Geometry.bit(square)) != 0;
+            case Pawn:
+                return (pawnSquares(piece.color(), index) & Geometry.bit(square)) != 0;
+            case Rook:
+                return Geometry.isStraight(index, square) && sees(index, square, before, after);
+            case Bishop:
+                return Geometry.isDiagonal(index, square) && sees(index, square, before, after);
+            default:
+                return (Geometry.isStraight(index, square) || Geometry.isDiagonal(index, square))
+                    && sees(index, square, before, after);
+        }
+    }
+
+    private static boolean sees(int index, int square, long before, long after) {
+        long between = Geometry.between(index, square);
+        return (between & before) == 0 || (between & after) == 0;
+    }
+
+    private static long pawnSquares(Color color, int index) {
+        int forward = color == Color.WHITE ? 8 : -8;
+        long squares = Geometry.pawnAttacks(color, index);
+        for (int step = 1; step <= 2; step++) {
+            int ahead = index + step * forward;
+            if (ahead >= 0 && ahead < 64) {
+                squares |= Geometry.bit(ahead);
+            }
+        }
+        return squares;
+    }
+
+}
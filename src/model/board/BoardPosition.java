@@ -2,14 +2,14 @@ package model.board;
 
 public class BoardPosition {
     private Square square;
-    private ChessBoard board;
+    private BoardState board;
 
-    public BoardPosition(Square square, ChessBoard board) {
+    public BoardPosition(Square square, BoardState board) {
         this.square = square;
         this.board = board;
     }
 
-    public ChessBoard chessBoard() {
+    public BoardState chessBoard() {
         return board;
     }
 
@@ -1,7 +1,6 @@
 package model.board;
 
 import static model.board.Sugar.eventList;
-import static model.board.Sugar.play;
 import static model.board.Sugar.put;
 import static model.board.Sugar.square;
 
@@ -28,11 +27,7 @@ public final class BoardSetter {
     }
 
     public ChessBoard setBoard() {
-        ChessBoard board = new ChessBoard();
-
-        board = play(putEvents, board);
-
-        return board;
+        return new BoardBuilder().putAll(putEvents).build();
     }
 
     private PutEvent b_King_e_8 = put(Color.BLACK, Rank.King, square(Column.E, Row.R8));
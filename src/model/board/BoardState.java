@@ -0,0 +1,17 @@
+package model.board;
+
+import model.board.views.RankView;
+import model.piece.Piece;
+
+public interface BoardState {
+
+    /**
+     * Null if the square is empty or null.
+     */
+    Piece pieceAt(Square square);
+
+    Square squareHolding(Piece piece);
+
+    RankView rankView(Piece piece);
+
+}
@@ -1,21 +1,34 @@
 package model.board;
 
-import static model.board.views.RankViewFactory.rankView;
+import static model.board.Reach.canCapture;
+import static model.board.Reach.canMove;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import model.board.views.RankView;
+import model.board.views.RankViewFactory;
 import model.enums.Color;
+import model.enums.GameEventType;
 import model.exceptions.ConstructorArgsException;
 import model.exceptions.IllegalGameEventException;
 import model.piece.Piece;
 
-public class ChessBoard {
+public class ChessBoard implements BoardState {
 
     private final boolean boardIsSet;
     private final BackingMap backingMap;
-    private List<GameEvent> gameEvents;
+    private final List<GameEvent> gameEvents;
+    private volatile BoardCache cache;
+
+    private static final AtomicReferenceFieldUpdater<ChessBoard, BoardCache> CACHE = AtomicReferenceFieldUpdater
+        .newUpdater(ChessBoard.class, BoardCache.class, "cache");
 
     public ChessBoard() {
         gameEvents = new ArrayList<GameEvent>();
@@ -27,9 +40,11 @@ public class ChessBoard {
         return boardIsSet;
     }
 
+    /**
+     * The same immutable board is returned to every caller.
+     */
     public ChessBoard setBoardForGame() {
-        ChessBoard chessBoard = new BoardSetter().setBoard();
-        return new ChessBoard(chessBoard.gameEvents, chessBoard.backingMap, true);
+        return InitialPosition.BOARD;
     }
 
     public ChessBoard setBoardForGameInProgress() {
@@ -37,23 +52,67 @@ public class ChessBoard {
         return new ChessBoard(gameEvents, backingMap, true);
     }
 
-    private ChessBoard(List<GameEvent> gameEvents, BackingMap backingMap, boolean boardIsSet) {
+    ChessBoard(List<GameEvent> gameEvents, BackingMap backingMap, boolean boardIsSet) {
+        this(gameEvents, backingMap, boardIsSet, null);
+    }
+
+    /**
+     * The cache must have been worked out for a board in the same position.
+     */
+    ChessBoard(List<GameEvent> gameEvents, BackingMap backingMap, boolean boardIsSet, BoardCache cache) {
         if (gameEvents == null || backingMap == null) {
             throw new ConstructorArgsException("Constructor does not accept null arguments!");
         }
         this.gameEvents = gameEvents;
         this.backingMap = backingMap;
         this.boardIsSet = boardIsSet;
+        this.cache = cache;
     }
 
     public ChessBoard playEvent(GameEvent event) {
         return event.playEvent(this);
     }
 
+    /**
+     * Skips the move and capture legality guards, for events already known to
+     * be legal. An unset board is set on the first move or capture.
+     */
+    public ChessBoard replayTrusted(List<GameEvent> events) {
+        BackingMap.Builder builder = backingMap.builder();
+        List<GameEvent> afterGameEvents = new ArrayList<GameEvent>(gameEvents.size() + events.size());
+        afterGameEvents.addAll(gameEvents);
+        boolean isSet = boardIsSet;
+
+        for (GameEvent event : events) {
+            if (event.type() == GameEventType.PUT || event.type() == GameEventType.REMOVE) {
+                guard_BoardMustNotBeSet(isSet);
+            } else {
+                isSet = setOnFirstPlay(isSet, builder);
+            }
+            builder.apply(event);
+            afterGameEvents.add(event);
+        }
+
+        return new ChessBoard(afterGameEvents, builder.build(), isSet);
+    }
+
+    private boolean setOnFirstPlay(boolean isSet, BackingMap.Builder builder) {
+        if (!isSet && builder.isEmpty()) {
+            throw new IllegalStateException("Attempted to set an empty board!");
+        }
+        return true;
+    }
+
+    BackingMap backingMap() {
+        return backingMap;
+    }
+
+    @Override
     public Piece pieceAt(Square square) {
         return backingMap.getPieceAt(square);
     }
 
+    @Override
     public Square squareHolding(Piece piece) {
         return backingMap.getSquareHolding(piece);
     }
@@ -62,19 +121,203 @@ public class ChessBoard {
         return gameEvents;
     }
 
+    /**
+     * The list is unmodifiable.
+     */
     public List<GameEvent> potentialGameEvents(Color color) {
+        List<GameEvent> cached = cache().potentialGameEvents(color.ordinal());
+        if (cached != null) {
+            return cached;
+        }
+
+        MoveCache moveCache = MoveCache.installed();
+        List<GameEvent> potentialGameEvents = moveCache == null ? generatePotentialGameEvents(color) : moveCache
+            .potentialGameEvents(this, color);
+        return cache().cachePotentialGameEvents(color.ordinal(), potentialGameEvents);
+    }
+
+    /**
+     * The list is unmodifiable.
+     */
+    public List<GameEvent> legalGameEvents(Color color) {
+        List<GameEvent> legalGameEvents = cache().legalGameEvents(color.ordinal());
+        if (legalGameEvents == null) {
+            legalGameEvents = cache().cacheLegalGameEvents(color.ordinal(), LegalMoves.generate(this, color));
+        }
+        return legalGameEvents;
+    }
+
+    /**
+     * Generated a piece at a time, so a stream that stops early does not work
+     * out the events of the pieces it never reached.
+     */
+    public Stream<GameEvent> potentialGameEventsStream(Color color) {
+        return StreamSupport.stream(potentialGameEventsSpliterator(color), false);
+    }
+
+    public Spliterator<GameEvent> potentialGameEventsSpliterator(Color color) {
+        List<GameEvent> cached = cache().potentialGameEvents(color.ordinal());
+        return cached != null ? cached.spliterator() : new PotentialEventSpliterator(this, color);
+    }
+
+    public Stream<GameEvent> legalGameEventsStream(Color color) {
+        List<GameEvent> cached = cache().legalGameEvents(color.ordinal());
+        if (cached != null) {
+            return cached.stream();
+        }
+
+        final LegalMoves legalMoves = new LegalMoves(this, color);
+        return potentialGameEventsStream(color).filter(new Predicate<GameEvent>() {
+            @Override
+            public boolean test(GameEvent event) {
+                return legalMoves.isLegal(event);
+            }
+        });
+    }
+
+    /**
+     * Returns false if the sink stopped early.
+     */
+    public boolean pushPotentialGameEvents(Color color, MoveSink sink) {
+        BoardCache cache = this.cache;
+        List<GameEvent> cached = cache == null ? null : cache.potentialGameEvents(color.ordinal());
+        if (cached != null) {
+            return push(cached, sink);
+        }
+
+        for (long squares = backingMap.occupancy(color); squares != 0; squares &= squares - 1) {
+            int index = Long.numberOfTrailingZeros(squares);
+            Square square = Sugar.square(index);
+            List<GameEvent> events = cache == null ? null : cache.possibleEvents(square);
+            if (!(events == null ? RankViewFactory.pushEvents(backingMap.getPieceAt(square), square, this, sink)
+                : push(events, sink))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean push(List<GameEvent> events, MoveSink sink) {
+        for (int i = 0; i < events.size(); i++) {
+            GameEvent event = events.get(i);
+            boolean more = event.type() == GameEventType.CAPTURE ? sink.capture(event.source(), event.target(),
+                ((CaptureEvent) event).targetedPiece()) : sink.move(event.source(), event.target());
+            if (!more) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    List<GameEvent> generatePotentialGameEvents(Color color) {
         ArrayList<GameEvent> potentialGameEvents = new ArrayList<GameEvent>();
         List<Piece> pieces = piecesFor(color);
         for (Piece piece : pieces) {
-            potentialGameEvents.addAll(piece.possibleEvents(this));
+            potentialGameEvents.addAll(possibleEvents(piece));
         }
-        return potentialGameEvents;
+        return Collections.unmodifiableList(potentialGameEvents);
     }
 
+    private List<GameEvent> possibleEvents(Piece piece) {
+        return possibleEvents(squareHolding(piece));
+    }
+
+    List<GameEvent> possibleEvents(Square square) {
+        List<GameEvent> events = cache().possibleEvents(square);
+        if (events == null) {
+            events = cache().cachePossibleEvents(square,
+                Collections.unmodifiableList(pieceAt(square).possibleEvents(this)));
+        }
+        return events;
+    }
+
+    @Override
+    public RankView rankView(Piece piece) {
+        Square square = squareHolding(piece);
+        if (square == null) {
+            return RankViewFactory.newRankView(piece, this);
+        }
+
+        RankView view = cache().view(square);
+        if (view == null) {
+            view = cache().cacheView(square, RankViewFactory.newRankView(piece, this));
+        }
+        return view;
+    }
+
+    List<GameEvent> possibleEventsCached(Square square) {
+        BoardCache cache = this.cache;
+        return cache == null ? null : cache.possibleEvents(square);
+    }
+
+    BoardCache cache() {
+        if (cache == null) {
+            CACHE.compareAndSet(this, null, new BoardCache());
+        }
+        return cache;
+    }
+
+    /**
+     * The list is unmodifiable and shared by every caller.
+     */
     public List<Piece> piecesFor(Color color) {
         return backingMap.pieces(color);
     }
 
+    public BoardAnalysis analysis() {
+        BoardAnalysis analysis = cache().analysis();
+        if (analysis == null) {
+            analysis = cache().cacheAnalysis(new BoardAnalysis(backingMap));
+        }
+        return analysis;
+    }
+
+    /**
+     * A piece not on the board has none.
+     */
+    public int mobility(Piece piece) {
+        Square square = squareHolding(piece);
+        return square == null ? 0 : Long.bitCount(Mobility.moveToSquares(backingMap, piece, square.index()));
+    }
+
+    public int mobility(Color color) {
+        int mobility = 0;
+        for (long squares = backingMap.occupancy(color); squares != 0; squares &= squares - 1) {
+            int index = Long.numberOfTrailingZeros(squares);
+            mobility += Long.bitCount(Mobility.moveToSquares(backingMap, pieceAt(Sugar.square(index)), index));
+        }
+        return mobility;
+    }
+
+    public int threatenedSquareCount(Piece piece) {
+        Square square = squareHolding(piece);
+        return square == null ? 0 : Long.bitCount(Mobility.threatenedSquares(backingMap, piece, square.index()));
+    }
+
+    /**
+     * Each square is counted once, however many pieces threaten it.
+     */
+    public int threatenedSquareCount(Color color) {
+        long threatened = 0;
+        for (long squares = backingMap.occupancy(color); squares != 0; squares &= squares - 1) {
+            int index = Long.numberOfTrailingZeros(squares);
+            threatened |= Mobility.threatenedSquares(backingMap, pieceAt(Sugar.square(index)), index);
+        }
+        return Long.bitCount(threatened);
+    }
+
+    public boolean isInCheck(Color color) {
+        return Reach.checkers(backingMap, color) != 0;
+    }
+
+    public List<Piece> checkers(Color color) {
+        List<Piece> checkers = new ArrayList<Piece>();
+        for (long squares = Reach.checkers(backingMap, color); squares != 0; squares &= squares - 1) {
+            checkers.add(pieceAt(Sugar.square(Long.numberOfTrailingZeros(squares))));
+        }
+        return checkers;
+    }
+
     ChessBoard put(PutEvent put) {
         guard(put);
         return new ChessBoard(eventsList(put), backingMap(put), boardIsSet);
@@ -89,7 +332,7 @@ public class ChessBoard {
 
     ChessBoard move(MoveEvent move) {
         guard(move);
-        return new ChessBoard(eventsList(move), backingMap(move), boardIsSet);
+        return inheritCache(new ChessBoard(eventsList(move), backingMap(move), boardIsSet), move);
     }
 
     private void guard(MoveEvent move) {
@@ -101,7 +344,16 @@ public class ChessBoard {
 
     ChessBoard capture(CaptureEvent capture) {
         guard(capture);
-        return new ChessBoard(eventsList(capture), backingMap(capture), boardIsSet);
+        return inheritCache(new ChessBoard(eventsList(capture), backingMap(capture), boardIsSet), capture);
+    }
+
+    private ChessBoard inheritCache(ChessBoard child, GameEvent event) {
+        BoardCache cache = this.cache;
+        if (cache != null) {
+            child.cache = BoardCache.inherit(cache, backingMap, child.backingMap, event.source().index(), event
+                .target().index());
+        }
+        return child;
     }
 
     private void guard(CaptureEvent capture) {
@@ -152,6 +404,10 @@ public class ChessBoard {
     }
 
     private void guard_BoardMustNotBeSet() {
+        guard_BoardMustNotBeSet(boardIsSet);
+    }
+
+    private void guard_BoardMustNotBeSet(boolean boardIsSet) {
         if (boardIsSet) {
             throw new IllegalStateException("Attempted to put a piece on the board after it was set!");
         }
@@ -168,7 +424,7 @@ public class ChessBoard {
 
     private boolean isLegalMove(MoveEvent event) {
         Piece piece = pieceAt(event.source());
-        return moveToSquares(piece).contains(event.target());
+        return piece != null && canMove(this, piece, event.source(), event.target());
     }
 
     private boolean isNotLegalMove(MoveEvent move) {
@@ -177,19 +433,20 @@ public class ChessBoard {
 
     private boolean isLegalCapture(CaptureEvent event) {
         Piece piece = pieceAt(event.source());
-        return attackAtSquares(piece).squaresHoldingPiecesAttacked().contains(event.target());
+        return piece != null && canCapture(this, piece, event.source(), event.target());
     }
 
     private boolean isNotLegalCapture(CaptureEvent capture) {
         return !isLegalCapture(capture);
     }
 
-    private List<Square> moveToSquares(Piece piece) {
-        return rankView(piece, this).moveToSquares();
-    }
+    private static final class InitialPosition {
+        private static final ChessBoard BOARD = initialPosition();
 
-    private RankView attackAtSquares(Piece piece) {
-        return rankView(piece, this);
+        private static ChessBoard initialPosition() {
+            ChessBoard chessBoard = new BoardSetter().setBoard();
+            return new ChessBoard(Collections.unmodifiableList(chessBoard.gameEvents), chessBoard.backingMap, true);
+        }
     }
 
     @Override
@@ -0,0 +1,87 @@
+package model.board;
+
+import static model.board.Sugar.square;
+import static model.piece.PieceFactory.newPiece;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import model.enums.Color;
+import model.enums.Rank;
+import model.piece.Piece;
+
+/**
+ * A board's pieces and its event history:
+ *
+ * <pre>
+ * boolean  board is set
+ * byte     piece count
+ * int      per piece: square index | home square index &lt;&lt; 6 | rank ordinal &lt;&lt; 12 | color ordinal &lt;&lt; 15
+ * int      event count
+ * int      per event: {@link GameEventCodec} code
+ * </pre>
+ *
+ * {@link #writePosition(ChessBoard, DataOutput)} writes only the part before
+ * the events.
+ */
+public final class ChessBoardCodec {
+
+    private static final Rank[] RANKS = Rank.values();
+    private static final Color[] COLORS = Color.values();
+
+    public static void write(ChessBoard board, DataOutput out) throws IOException {
+        writePosition(board, out);
+
+        List<GameEvent> events = board.gameEvents();
+        out.writeInt(events.size());
+        for (GameEvent event : events) {
+            out.writeInt(GameEventCodec.encode(event));
+        }
+    }
+
+    public static ChessBoard read(DataInput in) throws IOException {
+        boolean boardIsSet = in.readBoolean();
+        BackingMap backingMap = readPieces(in);
+
+        int eventCount = in.readInt();
+        List<GameEvent> events = new ArrayList<GameEvent>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            events.add(GameEventCodec.decode(in.readInt()));
+        }
+
+        return new ChessBoard(events, backingMap, boardIsSet);
+    }
+
+    public static void writePosition(ChessBoard board, DataOutput out) throws IOException {
+        out.writeBoolean(board.boardIsSet());
+
+        List<Piece> pieces = new ArrayList<Piece>(board.piecesFor(Color.WHITE));
+        pieces.addAll(board.piecesFor(Color.BLACK));
+        out.writeByte(pieces.size());
+        for (Piece piece : pieces) {
+            out.writeInt(board.squareHolding(piece).index() | piece.homeSquare().index() << 6
+                | piece.rank().ordinal() << 12 | piece.color().ordinal() << 15);
+        }
+    }
+
+    public static ChessBoard readPosition(DataInput in) throws IOException {
+        boolean boardIsSet = in.readBoolean();
+        return new ChessBoard(Collections.<GameEvent> emptyList(), readPieces(in), boardIsSet);
+    }
+
+    private static BackingMap readPieces(DataInput in) throws IOException {
+        BackingMap.Builder backingMap = new BackingMap().builder();
+        int pieceCount = in.readUnsignedByte();
+        for (int i = 0; i < pieceCount; i++) {
+            int code = in.readInt();
+            Piece piece = newPiece(COLORS[(code >>> 15) & 1], RANKS[(code >>> 12) & 7], square((code >>> 6) & 63));
+            backingMap.put(square(code & 63), piece);
+        }
+        return backingMap.build();
+    }
+
+}
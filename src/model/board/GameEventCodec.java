@@ -0,0 +1,84 @@
+package model.board;
+
+import static model.board.Sugar.square;
+import static model.piece.PieceFactory.newPiece;
+
+import model.enums.Color;
+import model.enums.GameEventType;
+import model.enums.Rank;
+import model.piece.Piece;
+
+/**
+ * Packs a GameEvent into an int, for journals and caches:
+ *
+ * <pre>
+ * bits  0..5   source square index
+ * bits  6..11  target square index
+ * bits 12..17  home square index of the put or captured piece
+ * bits 18..20  rank ordinal of that piece
+ * bit  21      color ordinal of that piece
+ * bits 22..23  event type ordinal
+ * </pre>
+ *
+ * Fields an event does not have are left at zero.
+ */
+public final class GameEventCodec {
+
+    private static final GameEventType[] TYPES = GameEventType.values();
+    private static final Rank[] RANKS = Rank.values();
+    private static final Color[] COLORS = Color.values();
+
+    public static int encode(GameEvent event) {
+        switch (event.type()) {
+            case PUT:
+                Piece piece = ((PutEvent) event).piece();
+                return pack(GameEventType.PUT, 0, event.target().index(), piece);
+            case REMOVE:
+                return pack(GameEventType.REMOVE, event.source().index(), 0, null);
+            case MOVE:
+                return pack(GameEventType.MOVE, event.source().index(), event.target().index(), null);
+            case CAPTURE:
+                Piece targetedPiece = ((CaptureEvent) event).targetedPiece();
+                return pack(GameEventType.CAPTURE, event.source().index(), event.target().index(), targetedPiece);
+            default:
+                throw new IllegalArgumentException("Event Type: " + event.type() + " Not Supported!");
+        }
+    }
+
+    public static GameEvent decode(int code) {
+        int type = (code >>> 22) & 3;
+        Square source = square(code & 63);
+        Square target = square((code >>> 6) & 63);
+
+        switch (TYPES[type]) {
+            case PUT:
+                return new PutEvent(piece(code), target);
+            case REMOVE:
+                return new RemoveEvent(source);
+            case MOVE:
+                return new MoveEvent(source, target);
+            case CAPTURE:
+                return new CaptureEvent(source, target, piece(code));
+            default:
+                throw new IllegalArgumentException("Event Type: " + TYPES[type] + " Not Supported!");
+        }
+    }
+
+    private static int pack(GameEventType type, int source, int target, Piece piece) {
+        int code = source | (target << 6) | (type.ordinal() << 22);
+        if (piece != null) {
+            code |= piece.homeSquare().index() << 12;
+            code |= piece.rank().ordinal() << 18;
+            code |= piece.color().ordinal() << 21;
+        }
+        return code;
+    }
+
+    private static Piece piece(int code) {
+        Square homeSquare = square((code >>> 12) & 63);
+        Rank rank = RANKS[(code >>> 18) & 7];
+        Color color = COLORS[(code >>> 21) & 1];
+        return newPiece(color, rank, homeSquare);
+    }
+
+}
@@ -0,0 +1,83 @@
+package model.board;
+
+import java.util.List;
+
+import model.enums.GameEventType;
+import model.exceptions.ConstructorArgsException;
+import model.piece.Piece;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Ply 0 is the board as set, ply n the board after n moves or captures.
+ */
+public final class GameTimeline {
+
+    public static final int DEFAULT_INTERVAL = 16;
+
+    private final ImmutableList<GameEvent> events;
+    private final boolean boardIsSet;
+    private final int setupLength;
+    private final int interval;
+    private final Piece[][] checkpoints;
+
+    public GameTimeline(ChessBoard board) {
+        this(board, DEFAULT_INTERVAL);
+    }
+
+    public GameTimeline(ChessBoard board, int interval) {
+        if (board == null) {
+            throw new ConstructorArgsException("Constructor does not allow null(s)!");
+        }
+        if (interval < 1) {
+            throw new ConstructorArgsException("Checkpoint interval must be positive!");
+        }
+        this.events = ImmutableList.copyOf(board.gameEvents());
+        this.boardIsSet = board.boardIsSet();
+        this.setupLength = setupLength(events);
+        this.interval = interval;
+        this.checkpoints = new Piece[plies() / interval + 1][];
+
+        BackingMap.Builder builder = new BackingMap().builder();
+        for (int i = 0; i < setupLength; i++) {
+            builder.apply(events.get(i));
+        }
+        checkpoints[0] = builder.piecesBySquare();
+
+        for (int ply = 1; ply <= plies(); ply++) {
+            builder.apply(events.get(setupLength + ply - 1));
+            if (ply % interval == 0) {
+                checkpoints[ply / interval] = builder.piecesBySquare();
+            }
+        }
+    }
+
+    public int plies() {
+        return events.size() - setupLength;
+    }
+
+    public ChessBoard boardAt(int ply) {
+        if (ply < 0 || ply > plies()) {
+            throw new IllegalArgumentException("Ply " + ply + " is outside of 0.." + plies() + "!");
+        }
+
+        int checkpoint = ply / interval;
+        BackingMap.Builder builder = new BackingMap(checkpoints[checkpoint]).builder();
+        for (int i = setupLength + checkpoint * interval; i < setupLength + ply; i++) {
+            builder.apply(events.get(i));
+        }
+
+        return new ChessBoard(events.subList(0, setupLength + ply), builder.build(), boardIsSet);
+    }
+
+    private static int setupLength(List<GameEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            GameEventType type = events.get(i).type();
+            if (type == GameEventType.MOVE || type == GameEventType.CAPTURE) {
+                return i;
+            }
+        }
+        return events.size();
+    }
+
+}
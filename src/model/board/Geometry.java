@@ -0,0 +1,155 @@
+package model.board;
+
+import model.enums.Color;
+import model.enums.ViewVector;
+
+/**
+ * A set of squares is a long with bit i set for the square of index i.
+ */
+public final class Geometry {
+
+    private static final ViewVector[] KNIGHT_VECTORS = { ViewVector.RIGHT_UP_UP, ViewVector.RIGHT_RIGHT_UP,
+            ViewVector.RIGHT_RIGHT_DOWN, ViewVector.RIGHT_DOWN_DOWN, ViewVector.LEFT_DOWN_DOWN,
+            ViewVector.LEFT_LEFT_DOWN, ViewVector.LEFT_LEFT_UP, ViewVector.LEFT_UP_UP };
+
+    private static final ViewVector[] KING_VECTORS = { ViewVector.UP, ViewVector.RIGHT_UP, ViewVector.RIGHT,
+            ViewVector.RIGHT_DOWN, ViewVector.DOWN, ViewVector.LEFT_DOWN, ViewVector.LEFT, ViewVector.LEFT_UP };
+
+    private static final long[] KNIGHT_SQUARES = new long[64];
+    private static final long[] KING_SQUARES = new long[64];
+    private static final long[][] PAWN_ATTACKS = new long[Color.values().length][64];
+    private static final long[][] BETWEEN = new long[64][64];
+
+    private static final int[] RAY_COLUMN_STEPS = { 0, 1, 1, -1, 0, -1, -1, 1 };
+    private static final int[] RAY_ROW_STEPS = { 1, 0, 1, 1, -1, 0, -1, -1 };
+    private static final int NORTH = 0;
+    private static final int EAST = 1;
+    private static final int NORTH_EAST = 2;
+    private static final int NORTH_WEST = 3;
+    private static final int SOUTH = 4;
+    private static final int WEST = 5;
+    private static final int SOUTH_WEST = 6;
+    private static final int SOUTH_EAST = 7;
+    private static final long[][] RAYS = new long[8][64];
+
+    static {
+        for (int index = 0; index < 64; index++) {
+            KNIGHT_SQUARES[index] = leaps(index, KNIGHT_VECTORS);
+            KING_SQUARES[index] = leaps(index, KING_VECTORS);
+            PAWN_ATTACKS[Color.WHITE.ordinal()][index] =
+                leaps(index, new ViewVector[] { ViewVector.RIGHT_UP, ViewVector.LEFT_UP });
+            PAWN_ATTACKS[Color.BLACK.ordinal()][index] =
+                leaps(index, new ViewVector[] { ViewVector.RIGHT_DOWN, ViewVector.LEFT_DOWN });
+        }
+        for (int index = 0; index < 64; index++) {
+            for (int direction = 0; direction < 8; direction++) {
+                int column = column(index) + RAY_COLUMN_STEPS[direction];
+                int row = row(index) + RAY_ROW_STEPS[direction];
+                while (column >= 0 && column < 8 && row >= 0 && row < 8) {
+                    RAYS[direction][index] |= bit(row * 8 + column);
+                    column += RAY_COLUMN_STEPS[direction];
+                    row += RAY_ROW_STEPS[direction];
+                }
+            }
+        }
+        for (int from = 0; from < 64; from++) {
+            for (int to = 0; to < 64; to++) {
+                int step = step(from, to);
+                if (step != 0) {
+                    for (int index = from + step; index != to; index += step) {
+                        BETWEEN[from][to] |= bit(index);
+                    }
+                }
+            }
+        }
+    }
+
+    public static long bit(int index) {
+        return 1L << index;
+    }
+
+    public static long bit(Square square) {
+        return 1L << square.index();
+    }
+
+    public static int column(int index) {
+        return index & 7;
+    }
+
+    public static int row(int index) {
+        return index >>> 3;
+    }
+
+    public static long knightSquares(int index) {
+        return KNIGHT_SQUARES[index];
+    }
+
+    public static long kingSquares(int index) {
+        return KING_SQUARES[index];
+    }
+
+    public static long pawnAttacks(Color color, int index) {
+        return PAWN_ATTACKS[color.ordinal()][index];
+    }
+
+    /**
+     * 0 if the squares are not on a common row, column or diagonal.
+     */
+    public static int step(int from, int to) {
+        int columns = column(to) - column(from);
+        int rows = row(to) - row(from);
+
+        if (from == to || (columns != 0 && rows != 0 && Math.abs(columns) != Math.abs(rows))) {
+            return 0;
+        }
+        return Integer.signum(rows) * 8 + Integer.signum(columns);
+    }
+
+    public static long between(int from, int to) {
+        return BETWEEN[from][to];
+    }
+
+    public static long rookAttacks(int index, long occupied) {
+        return up(NORTH, index, occupied) | up(EAST, index, occupied) | down(SOUTH, index, occupied)
+            | down(WEST, index, occupied);
+    }
+
+    public static long bishopAttacks(int index, long occupied) {
+        return up(NORTH_EAST, index, occupied) | up(NORTH_WEST, index, occupied)
+            | down(SOUTH_WEST, index, occupied) | down(SOUTH_EAST, index, occupied);
+    }
+
+    private static long up(int direction, int index, long occupied) {
+        long ray = RAYS[direction][index];
+        long blockers = ray & occupied;
+        return blockers == 0 ? ray : ray ^ RAYS[direction][Long.numberOfTrailingZeros(blockers)];
+    }
+
+    private static long down(int direction, int index, long occupied) {
+        long ray = RAYS[direction][index];
+        long blockers = ray & occupied;
+        return blockers == 0 ? ray : ray ^ RAYS[direction][63 - Long.numberOfLeadingZeros(blockers)];
+    }
+
+    public static boolean isDiagonal(int from, int to) {
+        int columns = column(to) - column(from);
+        return from != to && Math.abs(columns) == Math.abs(row(to) - row(from));
+    }
+
+    public static boolean isStraight(int from, int to) {
+        return from != to && (column(from) == column(to) || row(from) == row(to));
+    }
+
+    private static long leaps(int index, ViewVector[] vectors) {
+        long squares = 0L;
+        for (ViewVector vv : vectors) {
+            int column = column(index) + vv.horizontalDelta();
+            int row = row(index) + vv.verticalDelta();
+            if (column >= 0 && column < 8 && row >= 0 && row < 8) {
+                squares |= bit(row * 8 + column);
+            }
+        }
+        return squares;
+    }
+
+}
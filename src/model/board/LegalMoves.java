@@ -0,0 +1,101 @@
+package model.board;
+
+import static model.board.Geometry.bit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import model.enums.Color;
+import model.enums.Rank;
+
+/**
+ * Set-up positions with more than one king of a color fall back to applying
+ * each event to a copy of the board and looking for check.
+ */
+final class LegalMoves {
+
+    private final BackingMap map;
+    private final Color color;
+    private final boolean byApplying;
+    private final int king;
+    private final long checkMask;
+    private final long pinned;
+    private final long occupiedWithoutKing;
+
+    LegalMoves(ChessBoard board, Color color) {
+        this.map = board.backingMap();
+        this.color = color;
+        long kings = map.occupancy(color, Rank.King);
+        this.byApplying = Long.bitCount(kings) > 1;
+        this.king = kings == 0 ? -1 : Long.numberOfTrailingZeros(kings);
+        this.checkMask = kings == 0 ? ~0L : checkMask(map, king, color.opponentColor());
+        this.pinned = kings == 0 ? 0L : pinned(map, king, color);
+        this.occupiedWithoutKing = kings == 0 ? 0L : map.occupancy() & ~bit(king);
+    }
+
+    static List<GameEvent> generate(ChessBoard board, Color color) {
+        List<GameEvent> candidates = board.potentialGameEvents(color);
+        if (board.backingMap().occupancy(color, Rank.King) == 0) {
+            return candidates;
+        }
+
+        LegalMoves legalMoves = new LegalMoves(board, color);
+        List<GameEvent> legal = new ArrayList<GameEvent>(candidates.size());
+        for (GameEvent event : candidates) {
+            if (legalMoves.isLegal(event)) {
+                legal.add(event);
+            }
+        }
+        return Collections.unmodifiableList(legal);
+    }
+
+    boolean isLegal(GameEvent event) {
+        if (byApplying) {
+            return Reach.checkers(map.builder().apply(event).build(), color) == 0;
+        }
+
+        int from = event.source().index();
+        int to = event.target().index();
+        if (from == king) {
+            return Reach.attackers(map, to, color.opponentColor(), occupiedWithoutKing) == 0;
+        }
+        return (checkMask & bit(to)) != 0
+            && ((pinned & bit(from)) == 0 || Geometry.step(king, to) == Geometry.step(king, from));
+    }
+
+    private static long checkMask(BackingMap map, int king, Color opponent) {
+        long checkers = Reach.attackers(map, king, opponent);
+        if (checkers == 0) {
+            return ~0L;
+        }
+        if (Long.bitCount(checkers) > 1) {
+            return 0L;
+        }
+        return checkers | Geometry.between(king, Long.numberOfTrailingZeros(checkers));
+    }
+
+    private static long pinned(BackingMap map, int king, Color color) {
+        Color opponent = color.opponentColor();
+        long queens = map.occupancy(opponent, Rank.Queen);
+        long straight = map.occupancy(opponent, Rank.Rook) | queens;
+        long diagonal = map.occupancy(opponent, Rank.Bishop) | queens;
+        long occupied = map.occupancy();
+        long friends = map.occupancy(color);
+
+        long pinned = 0;
+        for (long sliders = straight | diagonal; sliders != 0; sliders &= sliders - 1) {
+            int from = Long.numberOfTrailingZeros(sliders);
+            boolean onLine = Geometry.isStraight(from, king) ? (straight & bit(from)) != 0 : Geometry.isDiagonal(
+                from, king) && (diagonal & bit(from)) != 0;
+            if (onLine) {
+                long blockers = Geometry.between(from, king) & occupied;
+                if (Long.bitCount(blockers) == 1 && (blockers & friends) != 0) {
+                    pinned |= blockers;
+                }
+            }
+        }
+        return pinned;
+    }
+
+}
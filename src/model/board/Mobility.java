@@ -0,0 +1,80 @@
+package model.board;
+
+import static model.board.Geometry.bit;
+
+import model.enums.Color;
+import model.enums.Rank;
+import model.piece.Piece;
+
+final class Mobility {
+
+    static long moveToSquares(BackingMap map, Piece piece, int index) {
+        long empty = ~map.occupancy();
+        switch (piece.rank()) {
+            case Pawn:
+                return pawnMoves(map, piece, index);
+            case King:
+                long squares = Geometry.kingSquares(index) & empty;
+                for (long remaining = squares; remaining != 0; remaining &= remaining - 1) {
+                    int target = Long.numberOfTrailingZeros(remaining);
+                    if (Reach.attackers(map, target, piece.color().opponentColor()) != 0) {
+                        squares &= ~bit(target);
+                    }
+                }
+                return squares;
+            default:
+                return reach(map, piece.rank(), index) & empty;
+        }
+    }
+
+    static long threatenedSquares(BackingMap map, Piece piece, int index) {
+        switch (piece.rank()) {
+            case Pawn:
+                return Geometry.pawnAttacks(piece.color(), index);
+            default:
+                return reach(map, piece.rank(), index) & ~map.occupancy();
+        }
+    }
+
+    static long attacks(BackingMap map, Piece piece, int index) {
+        switch (piece.rank()) {
+            case Pawn:
+                return Geometry.pawnAttacks(piece.color(), index);
+            default:
+                return reach(map, piece.rank(), index);
+        }
+    }
+
+    private static long reach(BackingMap map, Rank rank, int index) {
+        long occupied = map.occupancy();
+        switch (rank) {
+            case Knight:
+                return Geometry.knightSquares(index);
+            case King:
+                return Geometry.kingSquares(index);
+            case Rook:
+                return Geometry.rookAttacks(index, occupied);
+            case Bishop:
+                return Geometry.bishopAttacks(index, occupied);
+            default:
+                return Geometry.rookAttacks(index, occupied) | Geometry.bishopAttacks(index, occupied);
+        }
+    }
+
+    private static long pawnMoves(BackingMap map, Piece pawn, int index) {
+        long occupied = map.occupancy();
+        int forward = pawn.color() == Color.WHITE ? 8 : -8;
+        int oneStep = index + forward;
+        if (oneStep < 0 || oneStep > 63 || (occupied & bit(oneStep)) != 0) {
+            return 0;
+        }
+
+        int twoSteps = oneStep + forward;
+        if (twoSteps >= 0 && twoSteps < 64 && (occupied & bit(twoSteps)) == 0
+            && !Sugar.hasMoved(pawn, Sugar.square(index))) {
+            return bit(oneStep) | bit(twoSteps);
+        }
+        return bit(oneStep);
+    }
+
+}
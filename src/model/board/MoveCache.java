@@ -0,0 +1,142 @@
+package model.board;
+
+import static model.board.Sugar.capture;
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import model.enums.Color;
+import model.enums.GameEventType;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+
+/**
+ * Boards consult the cache only while it is installed. A captured piece is
+ * looked up again on the board the events are decoded for, since equal
+ * positions may hold pieces with different home squares.
+ */
+public final class MoveCache {
+
+    private static volatile MoveCache installed;
+
+    private static final int CAPTURE = 1 << 12;
+
+    private final Cache<Key, int[]> cache;
+
+    public MoveCache(long maximumEvents) {
+        if (maximumEvents < 0) {
+            throw new IllegalArgumentException("The cache size must not be negative!");
+        }
+        this.cache = CacheBuilder.newBuilder().maximumWeight(maximumEvents).weigher(new Weigher<Key, int[]>() {
+            @Override
+            public int weigh(Key key, int[] events) {
+                return Math.max(events.length, 1);
+            }
+        }).recordStats().build();
+    }
+
+    public static void install(MoveCache cache) {
+        installed = cache;
+    }
+
+    public static MoveCache installed() {
+        return installed;
+    }
+
+    List<GameEvent> potentialGameEvents(ChessBoard board, Color color) {
+        Key key = new Key(PackedPosition.of(board), color);
+        int[] codes = cache.getIfPresent(key);
+        if (codes != null) {
+            return decode(codes, board);
+        }
+
+        List<GameEvent> events = board.generatePotentialGameEvents(color);
+        cache.put(key, encode(events));
+        return events;
+    }
+
+    public long hits() {
+        return cache.stats().hitCount();
+    }
+
+    public long misses() {
+        return cache.stats().missCount();
+    }
+
+    public long evictions() {
+        return cache.stats().evictionCount();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return "size=" + size() + " " + stats();
+    }
+
+    private static int[] encode(List<GameEvent> events) {
+        int[] codes = new int[events.size()];
+        for (int i = 0; i < codes.length; i++) {
+            GameEvent event = events.get(i);
+            codes[i] = event.source().index() | event.target().index() << 6
+                | (event.type() == GameEventType.CAPTURE ? CAPTURE : 0);
+        }
+        return codes;
+    }
+
+    private static List<GameEvent> decode(int[] codes, ChessBoard board) {
+        List<GameEvent> events = new ArrayList<GameEvent>(codes.length);
+        for (int code : codes) {
+            Square source = square(code & 63);
+            Square target = square((code >>> 6) & 63);
+            if ((code & CAPTURE) != 0) {
+                events.add(capture(source, target, board.pieceAt(target)));
+            } else {
+                events.add(move(source, target));
+            }
+        }
+        return Collections.unmodifiableList(events);
+    }
+
+    private static final class Key {
+        private final PackedPosition position;
+        private final Color color;
+
+        Key(PackedPosition position, Color color) {
+            this.position = position;
+            this.color = color;
+        }
+
+        @Override
+        public int hashCode() {
+            return position.hashCode() * 31 + color.ordinal();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            Key other = (Key) obj;
+            return color == other.color && position.equals(other.position);
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package model.board;
+
+import model.piece.Piece;
+
+/**
+ * Each method returns whether generation should go on.
+ */
+public interface MoveSink {
+
+    boolean move(Square source, Square target);
+
+    boolean capture(Square source, Square target, Piece targetedPiece);
+
+}
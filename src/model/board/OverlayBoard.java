@@ -0,0 +1,98 @@
+package model.board;
+
+import model.board.views.RankView;
+import model.board.views.RankViewFactory;
+import model.exceptions.ConstructorArgsException;
+import model.piece.Piece;
+
+/**
+ * Events are applied as {@link ChessBoard} would apply them but are not
+ * checked against the rules; only an event from an empty square is refused.
+ */
+public final class OverlayBoard implements BoardState {
+
+    private static final int MAXIMUM_CHANGES = 4;
+
+    private final ChessBoard parent;
+    private final Square[] squares = new Square[MAXIMUM_CHANGES];
+    private final Piece[] pieces = new Piece[MAXIMUM_CHANGES];
+    private int changes;
+
+    public OverlayBoard(ChessBoard parent, GameEvent event) {
+        if (parent == null || event == null) {
+            throw new ConstructorArgsException("Constructor does not allow null(s)!");
+        }
+        this.parent = parent;
+        apply(event);
+    }
+
+    public OverlayBoard(ChessBoard parent, GameEvent first, GameEvent second) {
+        if (parent == null || first == null || second == null) {
+            throw new ConstructorArgsException("Constructor does not allow null(s)!");
+        }
+        this.parent = parent;
+        apply(first);
+        apply(second);
+    }
+
+    public ChessBoard parent() {
+        return parent;
+    }
+
+    @Override
+    public Piece pieceAt(Square square) {
+        for (int i = changes - 1; i >= 0; i--) {
+            if (squares[i].equals(square)) {
+                return pieces[i];
+            }
+        }
+        return parent.pieceAt(square);
+    }
+
+    @Override
+    public Square squareHolding(Piece piece) {
+        Square square = parent.squareHolding(piece);
+        for (int i = 0; i < changes; i++) {
+            if (piece.equals(pieces[i])) {
+                square = squares[i];
+            } else if (squares[i].equals(square)) {
+                square = null;
+            }
+        }
+        return square;
+    }
+
+    @Override
+    public RankView rankView(Piece piece) {
+        return RankViewFactory.newRankView(piece, this);
+    }
+
+    private void apply(GameEvent event) {
+        switch (event.type()) {
+            case PUT:
+                change(event.target(), ((PutEvent) event).piece());
+                break;
+            case REMOVE:
+                change(event.source(), null);
+                break;
+            case MOVE:
+            case CAPTURE:
+                Piece piece = pieceAt(event.source());
+                if (piece == null) {
+                    throw new IllegalArgumentException("Attempted to move from an empty square!");
+                }
+                change(event.source(), null);
+                change(event.target(), piece);
+                break;
+            default:
+                throw new IllegalArgumentException("Event Type: " + event.type() + " Not Supported!");
+        }
+    }
+
+    private void change(Square square, Piece piece) {
+        squares[changes] = square;
+        pieces[changes] = piece;
+        changes++;
+    }
+
+}
@@ -0,0 +1,168 @@
+package model.board;
+
+import static model.board.Sugar.square;
+import static model.piece.PieceFactory.newPiece;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import model.enums.Color;
+import model.enums.Rank;
+import model.piece.Piece;
+
+/**
+ * Each nibble holds the piece on one square: 0 for an empty square, 1 + color
+ * ordinal * 6 + rank ordinal for a piece, and 13 + color ordinal for a pawn
+ * that has moved. {@link #toBoard()} gives such a pawn a home square of its
+ * color that no other pawn uses.
+ */
+public final class PackedPosition {
+
+    public static final int BYTES = 33;
+
+    private static final Rank[] RANKS = Rank.values();
+    private static final Color[] COLORS = Color.values();
+    private static final int MOVED_PAWN = 13;
+
+    private final long squares0to15;
+    private final long squares16to31;
+    private final long squares32to47;
+    private final long squares48to63;
+    private final boolean boardIsSet;
+
+    private PackedPosition(long[] mailbox, boolean boardIsSet) {
+        this.squares0to15 = mailbox[0];
+        this.squares16to31 = mailbox[1];
+        this.squares32to47 = mailbox[2];
+        this.squares48to63 = mailbox[3];
+        this.boardIsSet = boardIsSet;
+    }
+
+    public static PackedPosition of(ChessBoard board) {
+        long[] mailbox = new long[4];
+        for (int index = 0; index < 64; index++) {
+            Square square = square(index);
+            Piece piece = board.pieceAt(square);
+            if (piece != null) {
+                mailbox[index >>> 4] |= (long) code(piece, square) << ((index & 15) << 2);
+            }
+        }
+        return new PackedPosition(mailbox, board.boardIsSet());
+    }
+
+    public static PackedPosition read(ByteBuffer buffer) {
+        long[] mailbox = new long[4];
+        for (int i = 0; i < 4; i++) {
+            mailbox[i] = buffer.getLong();
+        }
+        return new PackedPosition(mailbox, buffer.get() != 0);
+    }
+
+    public static PackedPosition fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("A packed position is " + BYTES + " bytes, not " + bytes.length + "!");
+        }
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    public void write(ByteBuffer buffer) {
+        buffer.putLong(squares0to15);
+        buffer.putLong(squares16to31);
+        buffer.putLong(squares32to47);
+        buffer.putLong(squares48to63);
+        buffer.put((byte) (boardIsSet ? 1 : 0));
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        write(buffer);
+        return buffer.array();
+    }
+
+    public boolean boardIsSet() {
+        return boardIsSet;
+    }
+
+    int code(int index) {
+        long squares;
+        switch (index >>> 4) {
+            case 0:
+                squares = squares0to15;
+                break;
+            case 1:
+                squares = squares16to31;
+                break;
+            case 2:
+                squares = squares32to47;
+                break;
+            default:
+                squares = squares48to63;
+        }
+        return (int) (squares >>> ((index & 15) << 2)) & 15;
+    }
+
+    public ChessBoard toBoard() {
+        Piece[] piecesBySquare = new Piece[64];
+        long[] pawnHomes = new long[2];
+
+        for (int index = 0; index < 64; index++) {
+            int code = code(index);
+            if (code != 0 && code < MOVED_PAWN) {
+                Color color = COLORS[(code - 1) / 6];
+                Rank rank = RANKS[(code - 1) % 6];
+                piecesBySquare[index] = newPiece(color, rank, square(index));
+                if (rank == Rank.Pawn) {
+                    pawnHomes[color.ordinal()] |= 1L << index;
+                }
+            }
+        }
+        for (int index = 0; index < 64; index++) {
+            int code = code(index);
+            if (code >= MOVED_PAWN) {
+                Color color = COLORS[code - MOVED_PAWN];
+                int home = Long.numberOfTrailingZeros(~(pawnHomes[color.ordinal()] | 1L << index));
+                if (home == 64) {
+                    throw new IllegalStateException("No home square is left for the pawn on " + square(index) + "!");
+                }
+                pawnHomes[color.ordinal()] |= 1L << home;
+                piecesBySquare[index] = newPiece(color, Rank.Pawn, square(home));
+            }
+        }
+
+        return new ChessBoard(Collections.<GameEvent> emptyList(), new BackingMap(piecesBySquare), boardIsSet);
+    }
+
+    private static int code(Piece piece, Square square) {
+        if (piece.rank() == Rank.Pawn && Sugar.hasMoved(piece, square)) {
+            return MOVED_PAWN + piece.color().ordinal();
+        }
+        return 1 + piece.color().ordinal() * 6 + piece.rank().ordinal();
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + (int) (squares0to15 ^ (squares0to15 >>> 32));
+        result = prime * result + (int) (squares16to31 ^ (squares16to31 >>> 32));
+        result = prime * result + (int) (squares32to47 ^ (squares32to47 >>> 32));
+        result = prime * result + (int) (squares48to63 ^ (squares48to63 >>> 32));
+        result = prime * result + (boardIsSet ? 1231 : 1237);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        PackedPosition other = (PackedPosition) obj;
+        return squares0to15 == other.squares0to15 && squares16to31 == other.squares16to31
+            && squares32to47 == other.squares32to47 && squares48to63 == other.squares48to63
+            && boardIsSet == other.boardIsSet;
+    }
+
+}
@@ -0,0 +1,73 @@
+package model.board;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Safe for concurrent use. Backing maps are held weakly.
+ */
+public final class PositionInterner {
+
+    private final Interner<BackingMap> interner = Interners.newWeakInterner();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public ChessBoard intern(ChessBoard board) {
+        BackingMap backingMap = board.backingMap();
+        BackingMap canonical = interner.intern(backingMap);
+        if (canonical == backingMap) {
+            BoardCache shared = canonical.sharedCache();
+            if (shared == null) {
+                BoardCache cache = board.cache();
+                shared = canonical.shareCache(cache);
+                if (shared == cache) {
+                    misses.incrementAndGet();
+                    return board;
+                }
+            }
+            hits.incrementAndGet();
+            return shared == board.cache() ? board : new ChessBoard(board.gameEvents(), canonical, board
+                .boardIsSet(), shared);
+        }
+        hits.incrementAndGet();
+        bytesSaved.addAndGet(backingMap.bytes());
+        BoardCache shared = canonical.sharedCache();
+        if (shared == null) {
+            shared = canonical.shareCache(new BoardCache());
+        }
+        return new ChessBoard(board.gameEvents(), canonical, board.boardIsSet(), shared);
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * Interning a board that already has the canonical backing map is a hit.
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    public double hitRate() {
+        long hits = hits();
+        long lookups = hits + misses();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * An estimate, as of when each backing map was given up.
+     */
+    public long bytesSaved() {
+        return bytesSaved.get();
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + hits() + " misses=" + misses() + " hitRate=" + hitRate() + " bytesSaved=" + bytesSaved();
+    }
+
+}
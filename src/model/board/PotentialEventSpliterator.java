@@ -0,0 +1,91 @@
+package model.board;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import model.enums.Color;
+
+final class PotentialEventSpliterator implements Spliterator<GameEvent> {
+
+    private static final int EVENTS_PER_PIECE = 4;
+
+    private final ChessBoard board;
+    private long squares;
+    private List<GameEvent> events;
+    private int next;
+
+    PotentialEventSpliterator(ChessBoard board, Color color) {
+        this(board, board.backingMap().occupancy(color));
+    }
+
+    private PotentialEventSpliterator(ChessBoard board, long squares) {
+        this.board = board;
+        this.squares = squares;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super GameEvent> action) {
+        while (events == null || next == events.size()) {
+            if (squares == 0) {
+                return false;
+            }
+            events = board.possibleEvents(nextSquare());
+            next = 0;
+        }
+        action.accept(events.get(next++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super GameEvent> action) {
+        if (events != null) {
+            while (next < events.size()) {
+                action.accept(events.get(next++));
+            }
+        }
+        while (squares != 0) {
+            events = board.possibleEvents(nextSquare());
+            for (next = 0; next < events.size(); next++) {
+                action.accept(events.get(next));
+            }
+        }
+    }
+
+    private Square nextSquare() {
+        Square square = Sugar.square(Long.numberOfTrailingZeros(squares));
+        squares &= squares - 1;
+        return square;
+    }
+
+    /**
+     * Splits only between pieces not yet started.
+     */
+    @Override
+    public Spliterator<GameEvent> trySplit() {
+        int pieces = Long.bitCount(squares);
+        if (pieces < 2 || (events != null && next < events.size())) {
+            return null;
+        }
+
+        long prefix = 0;
+        long remaining = squares;
+        for (int i = 0; i < pieces / 2; i++) {
+            prefix |= Long.lowestOneBit(remaining);
+            remaining &= remaining - 1;
+        }
+        squares = remaining;
+        return new PotentialEventSpliterator(board, prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.bitCount(squares) * EVENTS_PER_PIECE + (events == null ? 0 : events.size() - next);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+}
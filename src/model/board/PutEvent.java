@@ -11,11 +11,15 @@ public class PutEvent implements GameEvent {
     private Square target;
 
     PutEvent(Piece piece) {
-        if (piece == null) {
+        this(piece, piece == null ? null : piece.homeSquare());
+    }
+
+    PutEvent(Piece piece, Square target) {
+        if (piece == null || target == null) {
             throw new ConstructorArgsException("Constructor does not allow null(s)!");
         }
         this.piece = piece;
-        this.target = piece.homeSquare();
+        this.target = target;
     }
 
     @Override
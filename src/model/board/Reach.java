@@ -0,0 +1,178 @@
+package model.board;
+
+import static model.board.Geometry.bit;
+import static model.board.Sugar.hasMoved;
+import static model.board.Sugar.isCollaborator;
+import static model.board.Sugar.square;
+
+import model.enums.Color;
+import model.enums.Rank;
+import model.enums.ViewVector;
+import model.piece.Piece;
+
+public final class Reach {
+
+    private static final ViewVector[] STRAIGHT_VECTORS = { ViewVector.UP, ViewVector.DOWN, ViewVector.LEFT,
+            ViewVector.RIGHT };
+    private static final ViewVector[] DIAGONAL_VECTORS = { ViewVector.RIGHT_UP, ViewVector.RIGHT_DOWN,
+            ViewVector.LEFT_UP, ViewVector.LEFT_DOWN };
+
+    public static boolean canMove(BoardState board, Piece piece, Square source, Square target) {
+        if (board.pieceAt(target) != null) {
+            return false;
+        }
+
+        int from = source.index();
+        int to = target.index();
+
+        switch (piece.rank()) {
+            case Pawn:
+                return pawnCanMove(board, piece, source, to);
+            case Knight:
+                return (Geometry.knightSquares(from) & bit(to)) != 0;
+            case King:
+                return (Geometry.kingSquares(from) & bit(to)) != 0
+                    && !isThreatened(board, target, piece.color().opponentColor());
+            default:
+                return slides(board, piece.rank(), from, to);
+        }
+    }
+
+    public static boolean canCapture(BoardState board, Piece piece, Square source, Square target) {
+        Piece targetedPiece = board.pieceAt(target);
+        if (targetedPiece == null || isCollaborator(piece.color(), targetedPiece)) {
+            return false;
+        }
+
+        int from = source.index();
+        int to = target.index();
+
+        switch (piece.rank()) {
+            case Pawn:
+                return (Geometry.pawnAttacks(piece.color(), from) & bit(to)) != 0;
+            case Knight:
+                return (Geometry.knightSquares(from) & bit(to)) != 0;
+            case King:
+                return (Geometry.kingSquares(from) & bit(to)) != 0;
+            default:
+                return slides(board, piece.rank(), from, to);
+        }
+    }
+
+    /**
+     * As the views' {@code threatenedSquares()}: a pawn threatens the squares it
+     * attacks, any other piece only the empty squares it reaches.
+     */
+    public static boolean isThreatened(BoardState board, Square square, Color byColor) {
+        int index = square.index();
+
+        if (isHeldBy(board, Geometry.pawnAttacks(byColor.opponentColor(), index), byColor, Rank.Pawn)) {
+            return true;
+        }
+        if (board.pieceAt(square) != null) {
+            return false;
+        }
+
+        return isHeldBy(board, Geometry.knightSquares(index), byColor, Rank.Knight)
+            || isHeldBy(board, Geometry.kingSquares(index), byColor, Rank.King)
+            || isSlidingTo(board, index, byColor, STRAIGHT_VECTORS, Rank.Rook)
+            || isSlidingTo(board, index, byColor, DIAGONAL_VECTORS, Rank.Bishop);
+    }
+
+    static long checkers(BackingMap map, Color color) {
+        long checkers = 0;
+        for (long kings = map.occupancy(color, Rank.King); kings != 0; kings &= kings - 1) {
+            checkers |= attackers(map, Long.numberOfTrailingZeros(kings), color.opponentColor());
+        }
+        return checkers;
+    }
+
+    static long attackers(BackingMap map, int index, Color byColor) {
+        return attackers(map, index, byColor, map.occupancy());
+    }
+
+    /**
+     * The sliders' lines are blocked only by the given squares.
+     */
+    static long attackers(BackingMap map, int index, Color byColor, long occupied) {
+        long attackers = Geometry.pawnAttacks(byColor.opponentColor(), index) & map.occupancy(byColor, Rank.Pawn)
+            | Geometry.knightSquares(index) & map.occupancy(byColor, Rank.Knight)
+            | Geometry.kingSquares(index) & map.occupancy(byColor, Rank.King);
+
+        long queens = map.occupancy(byColor, Rank.Queen);
+        long straight = map.occupancy(byColor, Rank.Rook) | queens;
+        long diagonal = map.occupancy(byColor, Rank.Bishop) | queens;
+        for (long sliders = straight | diagonal; sliders != 0; sliders &= sliders - 1) {
+            int from = Long.numberOfTrailingZeros(sliders);
+            boolean onLine = Geometry.isStraight(from, index) ? (straight & bit(from)) != 0 : Geometry.isDiagonal(
+                from, index) && (diagonal & bit(from)) != 0;
+            if (onLine && (Geometry.between(from, index) & occupied) == 0) {
+                attackers |= bit(from);
+            }
+        }
+        return attackers;
+    }
+
+    private static boolean pawnCanMove(BoardState board, Piece pawn, Square source, int to) {
+        int from = source.index();
+        int forward = pawn.color().equals(Color.WHITE) ? 8 : -8;
+        int oneStep = from + forward;
+
+        if (oneStep < 0 || oneStep > 63) {
+            return false;
+        }
+        if (to == oneStep) {
+            return true;
+        }
+        return to == oneStep + forward && !hasMoved(pawn, source) && board.pieceAt(square(oneStep)) == null;
+    }
+
+    private static boolean slides(BoardState board, Rank rank, int from, int to) {
+        boolean straight = Geometry.isStraight(from, to);
+        boolean diagonal = Geometry.isDiagonal(from, to);
+
+        if ((rank == Rank.Rook && !straight) || (rank == Rank.Bishop && !diagonal) || (!straight && !diagonal)) {
+            return false;
+        }
+
+        int step = Geometry.step(from, to);
+        for (int index = from + step; index != to; index += step) {
+            if (board.pieceAt(square(index)) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHeldBy(BoardState board, long squares, Color color, Rank rank) {
+        while (squares != 0) {
+            Piece piece = board.pieceAt(square(Long.numberOfTrailingZeros(squares)));
+            if (piece != null && piece.color().equals(color) && piece.rank().equals(rank)) {
+                return true;
+            }
+            squares &= squares - 1;
+        }
+        return false;
+    }
+
+    private static boolean isSlidingTo(BoardState board, int index, Color color, ViewVector[] vectors, Rank rank) {
+        for (ViewVector vv : vectors) {
+            int column = Geometry.column(index) + vv.horizontalDelta();
+            int row = Geometry.row(index) + vv.verticalDelta();
+
+            while (column >= 0 && column < 8 && row >= 0 && row < 8) {
+                Piece piece = board.pieceAt(square(row * 8 + column));
+                if (piece != null) {
+                    if (piece.color().equals(color) && (piece.rank().equals(rank) || piece.rank().equals(Rank.Queen))) {
+                        return true;
+                    }
+                    break;
+                }
+                column += vv.horizontalDelta();
+                row += vv.verticalDelta();
+            }
+        }
+        return false;
+    }
+
+}
@@ -27,6 +27,13 @@ public class Square {
         return row;
     }
 
+    /**
+     * A_1 is 0, H_1 is 7 and H_8 is 63.
+     */
+    public int index() {
+        return row.ordinal() * 8 + col.ordinal();
+    }
+
     public Square neighbor(ViewVector vv) {
         Column c = horizontalNeighbor(vv);
         Row r = verticalNeighbor(vv);
@@ -13,10 +13,25 @@ import model.piece.Piece;
 
 public final class Sugar {
 
+    private static final Square[] SQUARES = new Square[64];
+
+    static {
+        for (Row row : Row.values()) {
+            for (Column column : Column.values()) {
+                Square square = new Square(column, row);
+                SQUARES[square.index()] = square;
+            }
+        }
+    }
+
     public static PutEvent put(Piece piece) {
         return new PutEvent(piece);
     }
 
+    public static PutEvent put(Piece piece, Square square) {
+        return new PutEvent(piece, square);
+    }
+
     public static PutEvent put(Color color, Rank rank, Square square) {
         return new PutEvent(newPiece(color, rank, square));
     }
@@ -40,7 +55,14 @@ public final class Sugar {
     }
 
     public static Square square(Column column, Row row) {
-        return new Square(column, row);
+        if (column == null || row == null) {
+            return new Square(column, row);
+        }
+        return SQUARES[row.ordinal() * 8 + column.ordinal()];
+    }
+
+    public static Square square(int index) {
+        return SQUARES[index];
     }
 
     public static BoardPosition position(Column column, Row row, ChessBoard board) {
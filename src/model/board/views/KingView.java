@@ -1,26 +1,38 @@
 package model.board.views;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import model.board.BoardPosition;
+import model.board.BoardState;
+import model.board.MoveSink;
+import model.board.Reach;
 import model.board.Square;
 import model.enums.Color;
 import model.enums.TravelDistance;
 import model.enums.ViewVector;
-import model.piece.Piece;
 
 public final class KingView extends RadiatingView {
 
     private static final ViewVector[] KING_MOVES = { ViewVector.UP, ViewVector.RIGHT_UP, ViewVector.RIGHT,
             ViewVector.RIGHT_DOWN, ViewVector.DOWN, ViewVector.LEFT_DOWN, ViewVector.LEFT, ViewVector.LEFT_UP };
 
+    private volatile List<Square> safeSquares;
+
     KingView(Color color, BoardPosition boardPosition) {
         super(color, boardPosition, KING_MOVES, TravelDistance.ONE_UNIT_SQUARE);
     }
 
     @Override
     public List<Square> moveToSquares() {
+        if (safeSquares == null) {
+            safeSquares = collectSafeSquares();
+        }
+        return safeSquares;
+    }
+
+    private List<Square> collectSafeSquares() {
         List<Square> safeSquares = new ArrayList<Square>();
         List<Square> moveToSquares = super.moveToSquares();
 
@@ -30,24 +42,20 @@ public final class KingView extends RadiatingView {
             }
         }
 
-        return safeSquares;
+        return Collections.unmodifiableList(safeSquares);
     }
 
-    private boolean squareIsUnderAttack(Square availableSquare) {
-        return piecesAttackingAt(availableSquare).size() != 0;
+    @Override
+    protected boolean movesToSafeSquaresOnly() {
+        return true;
     }
 
-    private List<Piece> piecesAttackingAt(Square square) {
-        List<Piece> attackingPieces = new ArrayList<Piece>();
-        List<Piece> opponentPieces = chessBoard.piecesFor(viewColor.opponentColor());
-
-        for (Piece opponentPiece : opponentPieces) {
-            if (opponentPiece.threatenedSquares(chessBoard).contains(square)) {
-                attackingPieces.add(opponentPiece);
-            }
-        }
+    static boolean pushEvents(BoardState chessBoard, Square viewPoint, Color color, MoveSink sink) {
+        return pushEvents(chessBoard, viewPoint, color, KING_MOVES, TravelDistance.ONE_UNIT_SQUARE, true, sink);
+    }
 
-        return attackingPieces;
+    private boolean squareIsUnderAttack(Square availableSquare) {
+        return Reach.isThreatened(chessBoard, availableSquare, viewColor.opponentColor());
     }
 
 }
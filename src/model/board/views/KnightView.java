@@ -1,6 +1,9 @@
 package model.board.views;
 
 import model.board.BoardPosition;
+import model.board.BoardState;
+import model.board.MoveSink;
+import model.board.Square;
 import model.enums.Color;
 import model.enums.ViewVector;
 import model.enums.TravelDistance;
@@ -15,4 +18,8 @@ public final class KnightView extends RadiatingView {
         super(color, boardPosition, KNIGHT_DIRECTIONS, TravelDistance.ONE_UNIT_SQUARE);
     }
 
+    static boolean pushEvents(BoardState chessBoard, Square viewPoint, Color color, MoveSink sink) {
+        return pushEvents(chessBoard, viewPoint, color, KNIGHT_DIRECTIONS, TravelDistance.ONE_UNIT_SQUARE, false, sink);
+    }
+
 }
@@ -9,7 +9,8 @@ import java.util.Collections;
 import java.util.List;
 
 import model.board.BoardPosition;
-import model.board.ChessBoard;
+import model.board.BoardState;
+import model.board.MoveSink;
 import model.board.Square;
 import model.enums.Color;
 import model.enums.ViewVector;
@@ -22,10 +23,10 @@ public class PawnView implements RankView {
     private final Color viewColor;
     private final ViewVector pawnDirection;
 
-    private final List<Square> moveToSquares;
-    private final List<Square> squaresHoldingPiecesAttacked;
-    private final List<Square> squaresHoldingPiecesDefended;
-    private final ChessBoard chessBoard;
+    private volatile List<Square> moveToSquares;
+    private volatile List<Square> squaresHoldingPiecesAttacked;
+    private volatile List<Square> squaresHoldingPiecesDefended;
+    private final BoardState chessBoard;
     private final Square viewPoint;
 
     public PawnView(Color viewColor, BoardPosition boardPosition) {
@@ -34,53 +35,77 @@ public class PawnView implements RankView {
         viewPoint = boardPosition.square();
         this.viewColor = viewColor;
 
-        this.pawnDirection = pawnDirection();
-
-        moveToSquares = new ArrayList<Square>();
-        squaresHoldingPiecesAttacked = new ArrayList<Square>();
-        squaresHoldingPiecesDefended = new ArrayList<Square>();
-
-        addSquaresToLists();
+        this.pawnDirection = pawnDirection(viewColor);
     }
 
-    private void addSquaresToLists() {
-        addMoveToSquares();
+    private List<Square> squaresHoldingPieces(boolean collaborators) {
+        List<Square> squares = new ArrayList<Square>();
 
         List<Square> threatenedSquares = threatenedSquares();
         for (Square threatenedSquare : threatenedSquares) {
             Piece otherPiece = chessBoard.pieceAt(threatenedSquare);
 
-            if (otherPiece != null) {
-                if (isCollaborator(viewColor, otherPiece)) {
-                    squaresHoldingPiecesDefended.add(threatenedSquare);
-                } else {
-                    squaresHoldingPiecesAttacked.add(threatenedSquare);
-                }
+            if (otherPiece != null && isCollaborator(viewColor, otherPiece) == collaborators) {
+                squares.add(threatenedSquare);
             }
 
         }
+        return Collections.unmodifiableList(squares);
     }
 
-    private void addMoveToSquares() {
+    private List<Square> collectMoveToSquares() {
+        List<Square> moveToSquares = new ArrayList<Square>();
         Square oneStep = viewPoint.neighbor(pawnDirection);
-        if (chessBoard.pieceAt(oneStep) == null) {
+        if (oneStep != null && chessBoard.pieceAt(oneStep) == null) {
             moveToSquares.add(oneStep);
 
             Piece thisPawn = chessBoard.pieceAt(viewPoint);
             if (hasNotMoved(thisPawn)) {
                 Square twoSteps = oneStep.neighbor(pawnDirection);
-                if (chessBoard.pieceAt(twoSteps) == null) {
+                if (twoSteps != null && chessBoard.pieceAt(twoSteps) == null) {
                     moveToSquares.add(twoSteps);
                 }
             }
         }
+        return Collections.unmodifiableList(moveToSquares);
+    }
+
+    @Override
+    public boolean pushEvents(MoveSink sink) {
+        return pushEvents(chessBoard, viewPoint, viewColor, sink);
+    }
+
+    static boolean pushEvents(BoardState chessBoard, Square viewPoint, Color viewColor, MoveSink sink) {
+        ViewVector pawnDirection = pawnDirection(viewColor);
+        Square oneStep = viewPoint.neighbor(pawnDirection);
+        if (oneStep != null && chessBoard.pieceAt(oneStep) == null) {
+            if (!sink.move(viewPoint, oneStep)) {
+                return false;
+            }
+            if (!hasMoved(chessBoard.pieceAt(viewPoint), viewPoint)) {
+                Square twoSteps = oneStep.neighbor(pawnDirection);
+                if (twoSteps != null && chessBoard.pieceAt(twoSteps) == null && !sink.move(viewPoint, twoSteps)) {
+                    return false;
+                }
+            }
+        }
+
+        for (ViewVector attack : pawnAttacks(pawnDirection)) {
+            Square attackedSquare = viewPoint.neighbor(attack);
+            Piece otherPiece = chessBoard.pieceAt(attackedSquare);
+            if (otherPiece != null && !isCollaborator(viewColor, otherPiece)
+                && !sink.capture(viewPoint, attackedSquare, otherPiece)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private boolean hasNotMoved(Piece thisPawn) {
         return !hasMoved(thisPawn, viewPoint);
     }
 
-    private ViewVector pawnDirection() {
+    private static ViewVector pawnDirection(Color viewColor) {
         return viewColor.equals(Color.WHITE) ? ViewVector.UP : ViewVector.DOWN;
     }
 
@@ -91,16 +116,25 @@ public class PawnView implements RankView {
 
     @Override
     public List<Square> moveToSquares() {
+        if (moveToSquares == null) {
+            moveToSquares = collectMoveToSquares();
+        }
         return moveToSquares;
     }
 
     @Override
     public List<Square> squaresHoldingPiecesAttacked() {
+        if (squaresHoldingPiecesAttacked == null) {
+            squaresHoldingPiecesAttacked = squaresHoldingPieces(false);
+        }
         return squaresHoldingPiecesAttacked;
     }
 
     @Override
     public List<Square> squaresHoldingPiecesDefended() {
+        if (squaresHoldingPiecesDefended == null) {
+            squaresHoldingPiecesDefended = squaresHoldingPieces(true);
+        }
         return squaresHoldingPiecesDefended;
     }
 
@@ -123,6 +157,10 @@ public class PawnView implements RankView {
     }
 
     private ViewVector[] pawnAttacks() {
+        return pawnAttacks(pawnDirection);
+    }
+
+    private static ViewVector[] pawnAttacks(ViewVector pawnDirection) {
         if (ViewVector.UP.equals(pawnDirection)) {
             return UP_ATTACKS;
         } else {
@@ -1,12 +1,15 @@
 package model.board.views;
 
+import static model.board.Reach.isThreatened;
 import static model.board.Sugar.isCollaborator;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import model.board.BoardPosition;
-import model.board.ChessBoard;
+import model.board.BoardState;
+import model.board.MoveSink;
 import model.board.Square;
 import model.enums.Color;
 import model.enums.TravelDistance;
@@ -21,11 +24,11 @@ public abstract class RadiatingView implements RankView {
     private final TravelDistance travelDistance;
     private final ViewVector[] viewVectors;
 
-    protected final ChessBoard chessBoard;
+    protected final BoardState chessBoard;
 
-    private final List<Square> moveToSquares;
-    private final List<Square> squaresHoldingPiecesAttacked;
-    private final List<Square> squaresHoldingPiecesDefended;
+    private volatile List<Square> moveToSquares;
+    private volatile List<Square> squaresHoldingPiecesAttacked;
+    private volatile List<Square> squaresHoldingPiecesDefended;
 
     public RadiatingView(Color viewColor, BoardPosition boardPosition, ViewVector[] viewDirections) {
         this(viewColor, boardPosition, viewDirections, TravelDistance.EDGE_OF_BOARD);
@@ -44,15 +47,10 @@ public abstract class RadiatingView implements RankView {
 
         this.viewColor = viewColor;
         this.chessBoard = boardPosition.chessBoard();
-
-        this.moveToSquares = new ArrayList<Square>();
-        this.squaresHoldingPiecesDefended = new ArrayList<Square>();
-        this.squaresHoldingPiecesAttacked = new ArrayList<Square>();
-
-        addSquaresToLists();
     }
 
-    private void addSquaresToLists() {
+    private List<Square> collect(ListKind kind) {
+        List<Square> squares = new ArrayList<Square>();
 
         for (ViewVector vv : viewVectors) {
             Square nextSquare = null;
@@ -62,15 +60,15 @@ public abstract class RadiatingView implements RankView {
 
                     Piece piece = chessBoard.pieceAt(nextSquare);
                     if (null != piece) {
-                        if (isCollaborator(viewColor, piece)) {
-                            squaresHoldingPiecesDefended.add(nextSquare);
-                        } else {
-                            squaresHoldingPiecesAttacked.add(nextSquare);
+                        if (isCollaborator(viewColor, piece) ? kind == ListKind.DEFENDED : kind == ListKind.ATTACKED) {
+                            squares.add(nextSquare);
                         }
                         break;
                     }
 
-                    moveToSquares.add(nextSquare);
+                    if (kind == ListKind.MOVE_TO) {
+                        squares.add(nextSquare);
+                    }
 
                     if (!travelDistance.edgeOfBoard()) {
                         break;
@@ -80,6 +78,56 @@ public abstract class RadiatingView implements RankView {
 
             }
         }
+
+        return Collections.unmodifiableList(squares);
+    }
+
+    protected boolean movesToSafeSquaresOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean pushEvents(MoveSink sink) {
+        return pushEvents(chessBoard, viewPoint, viewColor, viewVectors, travelDistance, movesToSafeSquaresOnly(),
+            sink);
+    }
+
+    static boolean pushEvents(BoardState chessBoard, Square viewPoint, Color viewColor, ViewVector[] viewVectors,
+        TravelDistance travelDistance, boolean safeSquaresOnly, MoveSink sink) {
+        return push(chessBoard, viewPoint, viewColor, viewVectors, travelDistance, safeSquaresOnly, sink, false)
+            && push(chessBoard, viewPoint, viewColor, viewVectors, travelDistance, safeSquaresOnly, sink, true);
+    }
+
+    private static boolean push(BoardState chessBoard, Square viewPoint, Color viewColor, ViewVector[] viewVectors,
+        TravelDistance travelDistance, boolean safeSquaresOnly, MoveSink sink, boolean captures) {
+        for (ViewVector vv : viewVectors) {
+            Square nextSquare = viewPoint.neighbor(vv);
+
+            while (nextSquare != null) {
+                Piece piece = chessBoard.pieceAt(nextSquare);
+                if (null != piece) {
+                    if (captures && !isCollaborator(viewColor, piece) && !sink.capture(viewPoint, nextSquare, piece)) {
+                        return false;
+                    }
+                    break;
+                }
+
+                if (!captures && (!safeSquaresOnly || !isThreatened(chessBoard, nextSquare, viewColor.opponentColor()))
+                    && !sink.move(viewPoint, nextSquare)) {
+                    return false;
+                }
+
+                if (!travelDistance.edgeOfBoard()) {
+                    break;
+                }
+                nextSquare = nextSquare.neighbor(vv);
+            }
+        }
+        return true;
+    }
+
+    private enum ListKind {
+        MOVE_TO, ATTACKED, DEFENDED
     }
 
     @Override
@@ -89,22 +137,35 @@ public abstract class RadiatingView implements RankView {
 
     @Override
     public List<Square> moveToSquares() {
+        return radiatingMoveToSquares();
+    }
+
+    private List<Square> radiatingMoveToSquares() {
+        if (moveToSquares == null) {
+            moveToSquares = collect(ListKind.MOVE_TO);
+        }
         return moveToSquares;
     }
 
     @Override
     public List<Square> squaresHoldingPiecesAttacked() {
+        if (squaresHoldingPiecesAttacked == null) {
+            squaresHoldingPiecesAttacked = collect(ListKind.ATTACKED);
+        }
         return squaresHoldingPiecesAttacked;
     }
 
     @Override
     public List<Square> squaresHoldingPiecesDefended() {
+        if (squaresHoldingPiecesDefended == null) {
+            squaresHoldingPiecesDefended = collect(ListKind.DEFENDED);
+        }
         return squaresHoldingPiecesDefended;
     }
 
     @Override
     public List<Square> threatenedSquares() {
-        return moveToSquares;
+        return radiatingMoveToSquares();
     }
 
 }
@@ -2,6 +2,7 @@ package model.board.views;
 
 import java.util.List;
 
+import model.board.MoveSink;
 import model.board.Square;
 
 public interface RankView {
@@ -16,4 +17,10 @@ public interface RankView {
 
     Square viewPoint();
 
+    /**
+     * Moves first, then captures, in the order of
+     * {@link model.piece.Piece#possibleEvents(model.board.ChessBoard)}.
+     */
+    boolean pushEvents(MoveSink sink);
+
 }
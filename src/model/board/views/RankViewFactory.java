@@ -1,7 +1,8 @@
 package model.board.views;
 
 import model.board.BoardPosition;
-import model.board.ChessBoard;
+import model.board.BoardState;
+import model.board.MoveSink;
 import model.board.Square;
 import model.enums.Color;
 import model.enums.Rank;
@@ -9,11 +10,11 @@ import model.piece.Piece;
 
 public class RankViewFactory {
 
-    public static RankView rankView(Piece piece, ChessBoard chessBoard) {
-        return newRankView(piece, chessBoard);
+    public static RankView rankView(Piece piece, BoardState chessBoard) {
+        return chessBoard.rankView(piece);
     }
 
-    private static RankView newRankView(Piece piece, ChessBoard chessBoard) {
+    public static RankView newRankView(Piece piece, BoardState chessBoard) {
         Rank rank = piece.rank();
         Color color = piece.color();
         Square viewPoint = chessBoard.squareHolding(piece);
@@ -37,4 +38,26 @@ public class RankViewFactory {
         }
     }
 
+    public static boolean pushEvents(Piece piece, Square viewPoint, BoardState chessBoard, MoveSink sink) {
+        Rank rank = piece.rank();
+        Color color = piece.color();
+
+        switch (rank) {
+            case Pawn:
+                return PawnView.pushEvents(chessBoard, viewPoint, color, sink);
+            case Rook:
+                return RookView.pushEvents(chessBoard, viewPoint, color, sink);
+            case Knight:
+                return KnightView.pushEvents(chessBoard, viewPoint, color, sink);
+            case Bishop:
+                return BishopView.pushEvents(chessBoard, viewPoint, color, sink);
+            case Queen:
+                return QueenView.pushEvents(chessBoard, viewPoint, color, sink);
+            case King:
+                return KingView.pushEvents(chessBoard, viewPoint, color, sink);
+            default:
+                throw new RuntimeException("This should never happen! Rank is: " + rank);
+        }
+    }
+
 }
@@ -1,7 +1,11 @@
 package model.board.views;
 
 import model.board.BoardPosition;
+import model.board.BoardState;
+import model.board.MoveSink;
+import model.board.Square;
 import model.enums.Color;
+import model.enums.TravelDistance;
 import model.enums.ViewVector;
 
 public final class RookView extends RadiatingView {
@@ -13,4 +17,8 @@ public final class RookView extends RadiatingView {
         super(color, boardPosition, ROOK_MOVES);
     }
 
+    static boolean pushEvents(BoardState chessBoard, Square viewPoint, Color color, MoveSink sink) {
+        return pushEvents(chessBoard, viewPoint, color, ROOK_MOVES, TravelDistance.EDGE_OF_BOARD, false, sink);
+    }
+
 }
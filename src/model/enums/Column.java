@@ -3,6 +3,8 @@ package model.enums;
 public enum Column {
     A("A"), B("B"), C("C"), D("D"), E("E"), F("F"), G("G"), H("H");
 
+    private static final Column[] VALUES = values();
+
     private final String columnName;
 
     Column(String columnName) {
@@ -15,8 +17,8 @@ public enum Column {
     }
 
     public Column horizontalNeighbor(int cols) {
-        if (this.ordinal() + cols <= (Column.values().length - 1) && (this.ordinal() + cols) >= 0) {
-            return Column.values()[this.ordinal() + cols];
+        if (this.ordinal() + cols <= (VALUES.length - 1) && (this.ordinal() + cols) >= 0) {
+            return VALUES[this.ordinal() + cols];
         }
         return null;
     }
@@ -3,6 +3,8 @@ package model.enums;
 public enum Row {
     R1("1"), R2("2"), R3("3"), R4("4"), R5("5"), R6("6"), R7("7"), R8("8");
 
+    private static final Row[] VALUES = values();
+
     private String rowNumber;
 
     Row(String rowNumber) {
@@ -14,8 +16,8 @@ public enum Row {
     }
 
     public Row verticalNeighbor(int rows) {
-        if ((this.ordinal() + rows <= Row.values().length - 1) && (this.ordinal() + rows >= 0)) {
-            return Row.values()[this.ordinal() + rows];
+        if ((this.ordinal() + rows <= VALUES.length - 1) && (this.ordinal() + rows >= 0)) {
+            return VALUES[this.ordinal() + rows];
         }
         return null;
     }
@@ -0,0 +1,386 @@
+package model.game;
+
+import static model.board.Sugar.put;
+import static model.board.Sugar.square;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import model.board.ChessBoard;
+import model.board.GameEvent;
+import model.board.GameEventCodec;
+import model.enums.Color;
+import model.enums.GameEventType;
+import model.exceptions.ConstructorArgsException;
+import model.piece.Piece;
+
+/**
+ * {@link #append(long, GameEvent)} returns once its record is on disk. Records
+ * appended within the durability window are forced together by one writer
+ * thread. {@link #recover(Path)} stops at the first torn or corrupt record.
+ */
+public final class GameJournal implements Closeable {
+
+    static final int RECORD_SIZE = 8 + 1 + 4 + 4;
+
+    static final byte EVENT = 1;
+    static final byte SET = 2;
+    static final byte END = 3;
+
+    private final FileChannel channel;
+    private final long durabilityWindowNanos;
+    private final Thread writer;
+
+    private final Object lock = new Object();
+    private ByteBuffer pending = ByteBuffer.allocate(RECORD_SIZE * 1024);
+    private ByteBuffer writing = ByteBuffer.allocate(RECORD_SIZE * 1024);
+    private long appended;
+    private long durable;
+    private long firstPendingNanos;
+    private IOException failure;
+    private boolean closed;
+
+    /**
+     * A torn record left at the end by a crash is cut off.
+     */
+    public GameJournal(Path path, long durabilityWindow, TimeUnit unit) throws IOException {
+        if (path == null || unit == null || durabilityWindow < 0) {
+            throw new ConstructorArgsException("Constructor requires a path and a non-negative window!");
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        this.durabilityWindowNanos = unit.toNanos(durabilityWindow);
+
+        long validLength = scan(channel, null);
+        channel.truncate(validLength);
+        channel.position(validLength);
+
+        this.writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeLoop();
+            }
+        }, "game-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * A board its events cannot rebuild, such as one read from a snapshot, is
+     * journaled as a put of each piece where it stands, without its events.
+     */
+    public void startGame(long gameId, ChessBoard board) throws IOException {
+        long sequence = 0;
+        List<GameEvent> events = startEvents(board);
+        for (GameEvent event : events) {
+            sequence = enqueue(gameId, EVENT, GameEventCodec.encode(event));
+        }
+        if (needsSetRecord(board, events)) {
+            sequence = enqueue(gameId, SET, 0);
+        }
+        awaitDurable(sequence);
+    }
+
+    static int startRecords(ChessBoard board) {
+        List<GameEvent> events = startEvents(board);
+        return events.size() + (needsSetRecord(board, events) ? 1 : 0);
+    }
+
+    private static List<GameEvent> startEvents(ChessBoard board) {
+        if (rebuiltByEvents(board)) {
+            return board.gameEvents();
+        }
+        List<GameEvent> puts = new ArrayList<GameEvent>();
+        for (int index = 0; index < 64; index++) {
+            Piece piece = board.pieceAt(square(index));
+            if (piece != null) {
+                puts.add(put(piece, square(index)));
+            }
+        }
+        return puts;
+    }
+
+    /**
+     * Puts are only played on a board built up from an empty one.
+     */
+    private static boolean rebuiltByEvents(ChessBoard board) {
+        for (GameEvent event : board.gameEvents()) {
+            if (event.type() == GameEventType.PUT) {
+                return true;
+            }
+        }
+        return board.piecesFor(Color.WHITE).isEmpty() && board.piecesFor(Color.BLACK).isEmpty();
+    }
+
+    private static boolean needsSetRecord(ChessBoard board, List<GameEvent> events) {
+        if (!board.boardIsSet()) {
+            return false;
+        }
+        for (GameEvent event : events) {
+            if (event.type() == GameEventType.MOVE || event.type() == GameEventType.CAPTURE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void append(long gameId, GameEvent event) throws IOException {
+        awaitDurable(enqueue(gameId, EVENT, GameEventCodec.encode(event)));
+    }
+
+    public void endGame(long gameId) throws IOException {
+        awaitDurable(enqueue(gameId, END, 0));
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        synchronized (lock) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Keyed by game id, in the order the games were started.
+     */
+    public static Map<Long, ChessBoard> recover(Path path) throws IOException {
+        Map<Long, ChessBoard> boards = new LinkedHashMap<Long, ChessBoard>();
+        replay(path, boards);
+        return Collections.unmodifiableMap(boards);
+    }
+
+    static void replay(Path path, Map<Long, ChessBoard> boards) throws IOException {
+        Map<Long, GameLog> logs = new LinkedHashMap<Long, GameLog>();
+        for (Map.Entry<Long, ChessBoard> entry : boards.entrySet()) {
+            logs.put(entry.getKey(), new GameLog(entry.getValue()));
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            scan(channel, logs);
+        } finally {
+            channel.close();
+        }
+
+        boards.clear();
+        for (Map.Entry<Long, GameLog> entry : logs.entrySet()) {
+            boards.put(entry.getKey(), entry.getValue().board());
+        }
+    }
+
+    private long enqueue(long gameId, byte kind, int payload) throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                throw new IOException("The journal is closed!");
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (pending.remaining() < RECORD_SIZE) {
+                pending = grow(pending);
+            }
+            if (pending.position() == 0) {
+                firstPendingNanos = System.nanoTime();
+                lock.notifyAll();
+            }
+            putRecord(pending, gameId, kind, payload);
+            return ++appended;
+        }
+    }
+
+    private void awaitDurable(long sequence) throws IOException {
+        boolean interrupted = false;
+        synchronized (lock) {
+            while (durable < sequence && failure == null) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (durable < sequence) {
+                throw failure;
+            }
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            long batch;
+            synchronized (lock) {
+                try {
+                    while (pending.position() == 0 && !closed) {
+                        lock.wait();
+                    }
+                    long wait;
+                    while (!closed && (wait = firstPendingNanos + durabilityWindowNanos - System.nanoTime()) > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(lock, wait);
+                    }
+                } catch (InterruptedException e) {
+                    closed = true;
+                }
+                if (pending.position() == 0) {
+                    return;
+                }
+                ByteBuffer full = pending;
+                pending = writing;
+                writing = full;
+                batch = appended;
+            }
+
+            IOException error = null;
+            try {
+                writing.flip();
+                while (writing.hasRemaining()) {
+                    channel.write(writing);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                error = e;
+            }
+            writing.clear();
+
+            synchronized (lock) {
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durable = batch;
+                }
+                lock.notifyAll();
+                if (error != null) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static long scan(FileChannel channel, Map<Long, GameLog> logs) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * 4096);
+        long position = 0;
+        long validLength = 0;
+
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < RECORD_SIZE) {
+                return validLength;
+            }
+            position += read;
+            buffer.flip();
+
+            while (buffer.remaining() >= RECORD_SIZE) {
+                long gameId = buffer.getLong();
+                byte kind = buffer.get();
+                int payload = buffer.getInt();
+                int checksum = buffer.getInt();
+
+                if (checksum != checksum(gameId, kind, payload) || kind < EVENT || kind > END) {
+                    return validLength;
+                }
+                if (logs != null) {
+                    apply(logs, gameId, kind, payload);
+                }
+                validLength += RECORD_SIZE;
+            }
+            position -= buffer.remaining();
+        }
+    }
+
+    private static void apply(Map<Long, GameLog> logs, long gameId, byte kind, int payload) {
+        if (kind == END) {
+            logs.remove(gameId);
+            return;
+        }
+        GameLog log = logs.get(gameId);
+        if (log == null) {
+            log = new GameLog(new ChessBoard());
+            logs.put(gameId, log);
+        }
+        if (kind == SET) {
+            log.set();
+        } else {
+            log.add(GameEventCodec.decode(payload));
+        }
+    }
+
+    static void putRecord(ByteBuffer buffer, long gameId, byte kind, int payload) {
+        buffer.putLong(gameId);
+        buffer.put(kind);
+        buffer.putInt(payload);
+        buffer.putInt(checksum(gameId, kind, payload));
+    }
+
+    private static int checksum(long gameId, byte kind, int payload) {
+        CRC32 crc = new CRC32();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE - 4);
+        record.putLong(gameId).put(kind).putInt(payload);
+        crc.update(record.array(), 0, record.position());
+        return (int) crc.getValue();
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        grown.put(buffer);
+        return grown;
+    }
+
+    private static final class GameLog {
+        private ChessBoard board;
+        private final List<GameEvent> events = new ArrayList<GameEvent>();
+
+        GameLog(ChessBoard board) {
+            this.board = board;
+        }
+
+        void add(GameEvent event) {
+            events.add(event);
+        }
+
+        /**
+         * Older journals wrote a set record after a game's moves.
+         */
+        void set() {
+            if (!board().boardIsSet()) {
+                board = board.setBoardForGameInProgress();
+            }
+        }
+
+        ChessBoard board() {
+            if (!events.isEmpty()) {
+                board = board.replayTrusted(events);
+                events.clear();
+            }
+            return board;
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package model.game;
+
+import model.board.ChessBoard;
+import model.board.GameEvent;
+
+public final class GameReport {
+
+    private final int gameIndex;
+    private final int eventsPlayed;
+    private final ChessBoard board;
+    private final GameEvent failedEvent;
+    private final String error;
+
+    GameReport(int gameIndex, int eventsPlayed, ChessBoard board, GameEvent failedEvent, String error) {
+        this.gameIndex = gameIndex;
+        this.eventsPlayed = eventsPlayed;
+        this.board = board;
+        this.failedEvent = failedEvent;
+        this.error = error;
+    }
+
+    public int gameIndex() {
+        return gameIndex;
+    }
+
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * For an invalid game, also the index of the event that failed.
+     */
+    public int eventsPlayed() {
+        return eventsPlayed;
+    }
+
+    /**
+     * The last good board of an invalid game.
+     */
+    public ChessBoard board() {
+        return board;
+    }
+
+    public GameEvent failedEvent() {
+        return failedEvent;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        if (isValid()) {
+            return "game " + gameIndex + ": valid (" + eventsPlayed + " events)";
+        }
+        return "game " + gameIndex + ": event " + eventsPlayed + " [" + failedEvent + "] " + error;
+    }
+
+}
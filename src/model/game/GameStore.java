@@ -0,0 +1,327 @@
+package model.game;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import model.board.ChessBoard;
+import model.board.ChessBoardCodec;
+import model.board.GameEvent;
+import model.exceptions.ConstructorArgsException;
+
+/**
+ * A snapshot holds positions, not histories, so a recovered board has only
+ * the events journaled after its snapshot.
+ */
+public final class GameStore implements Closeable {
+
+    private static final String SEGMENT = "journal-";
+    private static final String SNAPSHOT = "snapshot-";
+    private static final int SNAPSHOT_MAGIC = 0x43485353;
+
+    private final Path directory;
+    private final long durabilityWindow;
+    private final TimeUnit unit;
+    private final long recordsPerSegment;
+
+    private final ReadWriteLock rollLock = new ReentrantReadWriteLock();
+    private final AtomicLong segmentRecords = new AtomicLong();
+    private final ExecutorService snapshotWriter;
+
+    private GameJournal journal;
+    private long segment;
+    private volatile IOException snapshotFailure;
+
+    public GameStore(Path directory, long durabilityWindow, TimeUnit unit, long recordsPerSegment)
+        throws IOException {
+        if (directory == null || unit == null || recordsPerSegment < 1) {
+            throw new ConstructorArgsException("Constructor requires a directory and a positive segment size!");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.durabilityWindow = durabilityWindow;
+        this.unit = unit;
+        this.recordsPerSegment = recordsPerSegment;
+        this.snapshotWriter = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "game-store-snapshots");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        List<Long> segments = numbered(directory, SEGMENT);
+        this.segment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1;
+        this.journal = new GameJournal(segmentPath(directory, segment), durabilityWindow, unit);
+    }
+
+    public void startGame(long gameId, ChessBoard board) throws IOException {
+        rollLock.readLock().lock();
+        try {
+            journal.startGame(gameId, board);
+        } finally {
+            rollLock.readLock().unlock();
+        }
+        recorded(GameJournal.startRecords(board));
+    }
+
+    public void append(long gameId, GameEvent event) throws IOException {
+        rollLock.readLock().lock();
+        try {
+            journal.append(gameId, event);
+        } finally {
+            rollLock.readLock().unlock();
+        }
+        recorded(1);
+    }
+
+    public void endGame(long gameId) throws IOException {
+        rollLock.readLock().lock();
+        try {
+            journal.endGame(gameId);
+        } finally {
+            rollLock.readLock().unlock();
+        }
+        recorded(1);
+    }
+
+    @Override
+    public void close() throws IOException {
+        rollLock.writeLock().lock();
+        try {
+            journal.close();
+        } finally {
+            rollLock.writeLock().unlock();
+        }
+        snapshotWriter.shutdown();
+        try {
+            snapshotWriter.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Null unless a snapshot could not be written. Its segments are kept.
+     */
+    public IOException snapshotFailure() {
+        return snapshotFailure;
+    }
+
+    public static Recovery recover(Path directory) throws IOException {
+        long start = System.nanoTime();
+
+        List<Long> snapshots = numbered(directory, SNAPSHOT);
+        long snapshot = snapshots.isEmpty() ? -1 : snapshots.get(snapshots.size() - 1);
+        Map<Long, ChessBoard> boards = snapshot < 0 ? new LinkedHashMap<Long, ChessBoard>() : readSnapshot(
+            snapshotPath(directory, snapshot));
+
+        int segmentsReplayed = 0;
+        for (long segment : numbered(directory, SEGMENT)) {
+            if (segment >= snapshot) {
+                GameJournal.replay(segmentPath(directory, segment), boards);
+                segmentsReplayed++;
+            }
+        }
+
+        return new Recovery(Collections.unmodifiableMap(boards), snapshot, segmentsReplayed, System.nanoTime()
+            - start);
+    }
+
+    private void recorded(long records) throws IOException {
+        if (segmentRecords.addAndGet(records) >= recordsPerSegment) {
+            rollLock.writeLock().lock();
+            try {
+                if (segmentRecords.get() >= recordsPerSegment) {
+                    roll();
+                }
+            } finally {
+                rollLock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void roll() throws IOException {
+        journal.close();
+        segment++;
+        journal = new GameJournal(segmentPath(directory, segment), durabilityWindow, unit);
+        segmentRecords.set(0);
+
+        final long snapshot = segment;
+        snapshotWriter.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    writeSnapshot(directory, snapshot);
+                } catch (IOException e) {
+                    snapshotFailure = e;
+                }
+            }
+        });
+    }
+
+    static void writeSnapshot(Path directory, long segment) throws IOException {
+        List<Long> snapshots = numbered(directory, SNAPSHOT);
+        long previous = snapshots.isEmpty() ? -1 : snapshots.get(snapshots.size() - 1);
+        if (previous >= segment) {
+            return;
+        }
+
+        Map<Long, ChessBoard> boards = previous < 0 ? new LinkedHashMap<Long, ChessBoard>() : readSnapshot(
+            snapshotPath(directory, previous));
+        List<Long> segments = numbered(directory, SEGMENT);
+        for (long closed : segments) {
+            if (closed >= previous && closed < segment) {
+                GameJournal.replay(segmentPath(directory, closed), boards);
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(boards.size());
+        for (Map.Entry<Long, ChessBoard> entry : boards.entrySet()) {
+            out.writeLong(entry.getKey());
+            ChessBoardCodec.writePosition(entry.getValue(), out);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+
+        Path temporary = directory.resolve(SNAPSHOT + segment + ".tmp");
+        FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+        Files.move(temporary, snapshotPath(directory, segment), StandardCopyOption.ATOMIC_MOVE);
+
+        for (long superseded : segments) {
+            if (superseded < segment) {
+                Files.deleteIfExists(segmentPath(directory, superseded));
+            }
+        }
+        for (long superseded : snapshots) {
+            Files.deleteIfExists(snapshotPath(directory, superseded));
+        }
+    }
+
+    private static Map<Long, ChessBoard> readSnapshot(Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, Math.max(bytes.length - 8, 0));
+        if (bytes.length < 16 || ByteBuffer.wrap(bytes, bytes.length - 8, 8).getLong() != crc.getValue()) {
+            throw new IOException("Corrupt snapshot: " + path);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bytes.length - 8));
+        if (in.readInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a snapshot: " + path);
+        }
+        int games = in.readInt();
+        Map<Long, ChessBoard> boards = new LinkedHashMap<Long, ChessBoard>();
+        for (int i = 0; i < games; i++) {
+            long gameId = in.readLong();
+            boards.put(gameId, ChessBoardCodec.readPosition(in));
+        }
+        return boards;
+    }
+
+    private static List<Long> numbered(Path directory, String prefix) throws IOException {
+        List<Long> numbers = new ArrayList<Long>();
+        if (!Files.isDirectory(directory)) {
+            return numbers;
+        }
+        DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*");
+        try {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String number = name.substring(prefix.length());
+                if (number.matches("[0-9]+")) {
+                    numbers.add(Long.parseLong(number));
+                }
+            }
+        } finally {
+            files.close();
+        }
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+    private static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(SEGMENT + segment);
+    }
+
+    private static Path snapshotPath(Path directory, long snapshot) {
+        return directory.resolve(SNAPSHOT + snapshot);
+    }
+
+    public static final class Recovery {
+        private final Map<Long, ChessBoard> boards;
+        private final long snapshot;
+        private final int segmentsReplayed;
+        private final long elapsedNanos;
+
+        Recovery(Map<Long, ChessBoard> boards, long snapshot, int segmentsReplayed, long elapsedNanos) {
+            this.boards = boards;
+            this.snapshot = snapshot;
+            this.segmentsReplayed = segmentsReplayed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public Map<Long, ChessBoard> boards() {
+            return boards;
+        }
+
+        /**
+         * -1 if there was no snapshot.
+         */
+        public long snapshot() {
+            return snapshot;
+        }
+
+        public int segmentsReplayed() {
+            return segmentsReplayed;
+        }
+
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return boards.size() + " games from snapshot " + snapshot + " and " + segmentsReplayed
+                + " segments in " + (elapsedNanos / 1000000) + " ms";
+        }
+    }
+
+}
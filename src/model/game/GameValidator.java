@@ -0,0 +1,135 @@
+package model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import model.board.ChessBoard;
+import model.board.GameEvent;
+import model.enums.GameEventType;
+import model.exceptions.ConstructorArgsException;
+
+public final class GameValidator {
+
+    private static final int GAMES_PER_TASK = 8;
+
+    private final ForkJoinPool pool;
+    private final int gamesPerTask;
+
+    public GameValidator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public GameValidator(ForkJoinPool pool) {
+        this(pool, GAMES_PER_TASK);
+    }
+
+    GameValidator(ForkJoinPool pool, int gamesPerTask) {
+        if (pool == null || gamesPerTask < 1) {
+            throw new ConstructorArgsException("Constructor requires a pool and a positive task size!");
+        }
+        this.pool = pool;
+        this.gamesPerTask = gamesPerTask;
+    }
+
+    public ValidationReport validate(List<GameEvent> events) {
+        return validateGames(splitGames(events));
+    }
+
+    public ValidationReport validateGames(List<List<GameEvent>> games) {
+        long start = System.nanoTime();
+        List<GameReport> gameReports = pool.invoke(new ValidateTask(games, 0, games.size(), gamesPerTask));
+        return new ValidationReport(gameReports, System.nanoTime() - start);
+    }
+
+    /**
+     * A new game starts at the first put that follows a move or a capture.
+     */
+    public static List<List<GameEvent>> splitGames(List<GameEvent> events) {
+        List<List<GameEvent>> games = new ArrayList<List<GameEvent>>();
+        List<GameEvent> game = new ArrayList<GameEvent>();
+        boolean inPlay = false;
+
+        for (GameEvent event : events) {
+            if (inPlay && event.type() == GameEventType.PUT) {
+                games.add(game);
+                game = new ArrayList<GameEvent>();
+                inPlay = false;
+            }
+            if (isPlay(event)) {
+                inPlay = true;
+            }
+            game.add(event);
+        }
+        if (!game.isEmpty()) {
+            games.add(game);
+        }
+        return games;
+    }
+
+    static GameReport validateGame(int gameIndex, List<GameEvent> events) {
+        ChessBoard board = new ChessBoard();
+        int played = 0;
+
+        for (GameEvent event : events) {
+            try {
+                if (isPlay(event) && !board.boardIsSet()) {
+                    board = board.setBoardForGameInProgress();
+                }
+                board = board.playEvent(event);
+            } catch (RuntimeException e) {
+                return new GameReport(gameIndex, played, board, event, describe(e));
+            }
+            played++;
+        }
+        return new GameReport(gameIndex, played, board, null, null);
+    }
+
+    private static boolean isPlay(GameEvent event) {
+        return event.type() == GameEventType.MOVE || event.type() == GameEventType.CAPTURE;
+    }
+
+    private static String describe(RuntimeException e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    private static final class ValidateTask extends RecursiveTask<List<GameReport>> {
+        private static final long serialVersionUID = -3204745946212734405L;
+
+        private final List<List<GameEvent>> games;
+        private final int from;
+        private final int to;
+        private final int gamesPerTask;
+
+        ValidateTask(List<List<GameEvent>> games, int from, int to, int gamesPerTask) {
+            this.games = games;
+            this.from = from;
+            this.to = to;
+            this.gamesPerTask = gamesPerTask;
+        }
+
+        @Override
+        protected List<GameReport> compute() {
+            if (to - from <= gamesPerTask) {
+                List<GameReport> gameReports = new ArrayList<GameReport>(to - from);
+                for (int i = from; i < to; i++) {
+                    gameReports.add(validateGame(i, games.get(i)));
+                }
+                return gameReports;
+            }
+
+            int middle = (from + to) >>> 1;
+            ValidateTask left = new ValidateTask(games, from, middle, gamesPerTask);
+            ValidateTask right = new ValidateTask(games, middle, to, gamesPerTask);
+
+            left.fork();
+            List<GameReport> gameReports = new ArrayList<GameReport>(to - from);
+            List<GameReport> rightReports = right.compute();
+            gameReports.addAll(left.join());
+            gameReports.addAll(rightReports);
+            return gameReports;
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package model.game;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class ValidationReport {
+
+    private final List<GameReport> gameReports;
+    private final long elapsedNanos;
+
+    ValidationReport(List<GameReport> gameReports, long elapsedNanos) {
+        this.gameReports = Collections.unmodifiableList(gameReports);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * In the order the games were submitted.
+     */
+    public List<GameReport> gameReports() {
+        return gameReports;
+    }
+
+    public List<GameReport> invalidGames() {
+        List<GameReport> invalidGames = new ArrayList<GameReport>();
+        for (GameReport report : gameReports) {
+            if (!report.isValid()) {
+                invalidGames.add(report);
+            }
+        }
+        return invalidGames;
+    }
+
+    public int gameCount() {
+        return gameReports.size();
+    }
+
+    public int validGameCount() {
+        return gameCount() - invalidGames().size();
+    }
+
+    public boolean allValid() {
+        return invalidGames().isEmpty();
+    }
+
+    public long eventCount() {
+        long eventCount = 0;
+        for (GameReport report : gameReports) {
+            eventCount += report.eventsPlayed();
+        }
+        return eventCount;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return validGameCount() + "/" + gameCount() + " games valid, " + eventCount() + " events in "
+            + (elapsedNanos / 1000000) + " ms";
+    }
+
+}
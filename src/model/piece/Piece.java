@@ -7,8 +7,10 @@ import static model.board.views.RankViewFactory.rankView;
 import java.util.ArrayList;
 import java.util.List;
 
+import model.board.BoardState;
 import model.board.ChessBoard;
 import model.board.GameEvent;
+import model.board.MoveSink;
 import model.board.Square;
 import model.board.views.RankView;
 import model.enums.Color;
@@ -19,6 +21,7 @@ public class Piece {
     private final Rank rank;
     private final Color color;
     private final Square homeSquare;
+    private final int id;
 
     Piece(Color color, Rank rank, Square homeSquare) {
         if (rank == null || color == null || homeSquare == null) {
@@ -27,6 +30,11 @@ public class Piece {
         this.rank = rank;
         this.color = color;
         this.homeSquare = homeSquare;
+        this.id = id(color, rank, homeSquare);
+    }
+
+    static int id(Color color, Rank rank, Square homeSquare) {
+        return color.ordinal() * 384 + rank.ordinal() * 64 + homeSquare.index();
     }
 
     public Rank rank() {
@@ -45,6 +53,13 @@ public class Piece {
         return homeSquare;
     }
 
+    /**
+     * From 0 to {@link PieceFactory#PIECE_COUNT} - 1.
+     */
+    public int id() {
+        return id;
+    }
+
     public List<GameEvent> possibleEvents(ChessBoard board) {
         List<GameEvent> possibleEvents = new ArrayList<GameEvent>();
 
@@ -56,6 +71,10 @@ public class Piece {
         return possibleEvents;
     }
 
+    public boolean pushEvents(BoardState board, MoveSink sink) {
+        return myView(board).pushEvents(sink);
+    }
+
     private void addPossibleMoves(RankView view, List<GameEvent> possibleEvents, ChessBoard board) {
         for (Square openSquare : view.moveToSquares()) {
             possibleEvents.add(move(view.viewPoint(), openSquare));
@@ -69,7 +88,7 @@ public class Piece {
         }
     }
 
-    private List<Piece> opponentPiecesAttacked(ChessBoard board, RankView view) {
+    private List<Piece> opponentPiecesAttacked(BoardState board, RankView view) {
         List<Piece> opponentPiecesAttacked = new ArrayList<Piece>();
 
         List<Square> squaresHoldingPiecesAttacked = view.squaresHoldingPiecesAttacked();
@@ -79,12 +98,12 @@ public class Piece {
         return opponentPiecesAttacked;
     }
 
-    public List<Piece> opponentPiecesAttacked(ChessBoard board) {
+    public List<Piece> opponentPiecesAttacked(BoardState board) {
         RankView view = myView(board);
         return opponentPiecesAttacked(board, view);
     }
 
-    public List<Piece> teammatesDefended(ChessBoard board) {
+    public List<Piece> teammatesDefended(BoardState board) {
         List<Piece> teammatesDefended = new ArrayList<Piece>();
 
         List<Square> squaresHoldingPiecesDefended = myView(board).squaresHoldingPiecesDefended();
@@ -131,15 +150,15 @@ public class Piece {
         return teammatesDefendingMe;
     }
 
-    public List<Square> threatenedSquares(ChessBoard board) {
+    public List<Square> threatenedSquares(BoardState board) {
         return myView(board).threatenedSquares();
     }
 
-    public List<Square> moveToSquares(ChessBoard board) {
+    public List<Square> moveToSquares(BoardState board) {
         return myView(board).moveToSquares();
     }
 
-    private RankView myView(ChessBoard chessBoard) {
+    private RankView myView(BoardState chessBoard) {
         return rankView(this, chessBoard);
     }
 
@@ -150,12 +169,7 @@ public class Piece {
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + ((color == null) ? 0 : color.hashCode());
-        result = prime * result + ((homeSquare == null) ? 0 : homeSquare.hashCode());
-        result = prime * result + ((rank == null) ? 0 : rank.hashCode());
-        return result;
+        return id;
     }
 
     @Override
@@ -167,16 +181,7 @@ public class Piece {
         if (getClass() != obj.getClass())
             return false;
         Piece other = (Piece) obj;
-        if (color != other.color)
-            return false;
-        if (homeSquare == null) {
-            if (other.homeSquare != null)
-                return false;
-        } else if (!homeSquare.equals(other.homeSquare))
-            return false;
-        if (rank != other.rank)
-            return false;
-        return true;
+        return id == other.id;
     }
 
 }
@@ -1,17 +1,41 @@
 package model.piece;
 
+import static model.board.Sugar.square;
+
 import model.board.Square;
 import model.enums.Color;
 import model.enums.Rank;
 import model.exceptions.ConstructorArgsException;
 
+/**
+ * A piece's id is color ordinal * 384 + rank ordinal * 64 + home square index.
+ */
 public class PieceFactory {
 
+    public static final int PIECE_COUNT = 2 * 6 * 64;
+
+    private static final Piece[] PIECES = new Piece[PIECE_COUNT];
+
+    static {
+        for (Color color : Color.values()) {
+            for (Rank rank : Rank.values()) {
+                for (int index = 0; index < 64; index++) {
+                    Piece piece = new Piece(color, rank, square(index));
+                    PIECES[piece.id()] = piece;
+                }
+            }
+        }
+    }
+
     public static Piece newPiece(Color color, Rank rank, Square homeSquare) {
         if (color == null || rank == null || homeSquare == null) {
             throw new ConstructorArgsException("Arguments must not be null!");
         }
-        return new Piece(color, rank, homeSquare);
+        return PIECES[Piece.id(color, rank, homeSquare)];
+    }
+
+    public static Piece piece(int id) {
+        return PIECES[id];
     }
 
 }
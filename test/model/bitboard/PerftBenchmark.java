@@ -0,0 +1,40 @@
+package model.bitboard;
+
+/**
+ * Times perft on the standard test positions and reports millions of nodes
+ * per second, the baseline for move generation work. Run with
+ * {@code java model.bitboard.PerftBenchmark}; it is not part of the test
+ * suite.
+ */
+public class PerftBenchmark {
+
+    private static final int RUNS = 5;
+
+    private static final String[] POSITIONS = { Position.START,
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+            "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10" };
+    private static final int[] DEPTHS = { 5, 4, 6, 5, 4, 4 };
+
+    public static void main(String[] args) {
+        long nodes = 0;
+        long nanos = 0;
+        for (int i = 0; i < POSITIONS.length; i++) {
+            Position position = Position.fromFen(POSITIONS[i]);
+            Perft.Result best = null;
+            for (int run = 0; run < RUNS; run++) {
+                Perft.Result result = Perft.run(position, DEPTHS[i]);
+                if (best == null || result.elapsedNanos() < best.elapsedNanos()) {
+                    best = result;
+                }
+            }
+            System.out.println(best + "  " + POSITIONS[i]);
+            nodes += best.nodes();
+            nanos += best.elapsedNanos();
+        }
+        System.out.printf("total %d nodes, %.2f Mnps%n", nodes, nodes * 1000.0 / nanos);
+    }
+
+}
@@ -0,0 +1,81 @@
+package model.bitboard;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Node counts published for the standard perft test positions.
+ */
+public class PerftTest {
+
+    private static final String KIWIPETE = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+    private static final String POSITION_3 = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+    private static final String POSITION_4 = "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+    private static final String POSITION_5 = "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8";
+    private static final String POSITION_6 =
+        "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+
+    @Test
+    public void the_starting_position() {
+        assertCounts(Position.START, 20, 400, 8902, 197281);
+    }
+
+    @Test
+    public void kiwipete() {
+        assertCounts(KIWIPETE, 48, 2039, 97862);
+    }
+
+    @Test
+    public void position_3() {
+        assertCounts(POSITION_3, 14, 191, 2812, 43238, 674624);
+    }
+
+    @Test
+    public void position_4() {
+        assertCounts(POSITION_4, 6, 264, 9467, 422333);
+    }
+
+    @Test
+    public void position_5() {
+        assertCounts(POSITION_5, 44, 1486, 62379);
+    }
+
+    @Test
+    public void position_6() {
+        assertCounts(POSITION_6, 46, 2079, 89890);
+    }
+
+    @Test
+    public void divide_adds_up_to_perft() {
+        Position position = Position.fromFen(KIWIPETE);
+        Map<String, Long> divide = Perft.divide(position, 2);
+
+        long nodes = 0;
+        for (long count : divide.values()) {
+            nodes += count;
+        }
+        assertThat(divide.size(), equalTo(48));
+        assertThat(divide.get("e1g1"), equalTo(43L));
+        assertThat(nodes, equalTo(2039L));
+    }
+
+    @Test
+    public void perft_leaves_the_position_as_it_found_it() {
+        Position position = Position.fromFen(POSITION_4);
+        Perft.perft(position, 3);
+
+        assertThat(position.fen(), equalTo(POSITION_4));
+    }
+
+    private static void assertCounts(String fen, long... counts) {
+        Position position = Position.fromFen(fen);
+        for (int depth = 1; depth <= counts.length; depth++) {
+            assertThat(fen + " at depth " + depth, Perft.perft(position, depth), equalTo(counts[depth - 1]));
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+package model.bitboard;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import model.board.ChessBoard;
+import model.board.GameEvent;
+import model.board.RandomGames;
+import model.enums.Color;
+
+import org.junit.Test;
+
+public class PositionTest {
+
+    @Test
+    public void a_fen_position_reads_back_unchanged() {
+        String fen = "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R b Kq e3 0 1";
+
+        assertThat(Position.fromFen(fen).fen(), equalTo(fen));
+    }
+
+    @Test
+    public void the_starting_board_is_the_starting_position() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+
+        assertThat(Position.of(board, Color.WHITE).fen(), equalTo(Position.START));
+    }
+
+    @Test
+    public void a_double_pawn_move_sets_the_en_passant_square() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(move(square(12), square(28)));
+
+        assertThat(Position.of(board, Color.BLACK).fen(),
+            equalTo("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1"));
+    }
+
+    @Test
+    public void a_rook_that_has_moved_gives_up_its_castling_right() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(move(square(15), square(31)))
+            .playEvent(move(square(48), square(40))).playEvent(move(square(7), square(23)))
+            .playEvent(move(square(40), square(32))).playEvent(move(square(23), square(7)));
+
+        assertThat(Position.of(board, Color.BLACK).fen(),
+            equalTo("rnbqkbnr/1ppppppp/8/p7/7P/8/PPPPPPP1/RNBQKBNR b Qkq - 0 1"));
+    }
+
+    @Test
+    public void unmake_restores_every_kind_of_move() {
+        Position position = Position.fromFen("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 b kq - 0 1");
+        String before = position.fen();
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.legalMoves(position, moves);
+
+        Set<Integer> kinds = new HashSet<Integer>();
+        for (int i = 0; i < count; i++) {
+            position.make(moves[i]);
+            position.unmake(moves[i]);
+            kinds.add(Move.kind(moves[i]));
+            assertThat(position.fen(), equalTo(before));
+        }
+        assertThat(kinds.contains(Move.CASTLE) && kinds.contains(Move.PROMOTION), equalTo(true));
+    }
+
+    @Test
+    public void ordinary_moves_agree_with_the_boards_legal_events() {
+        for (ChessBoard board : RandomGames.legalPositions(46L, 20, 60)) {
+            Color color = RandomGames.sideToMove(board);
+            assertThat(ordinaryMoves(Position.of(board, color)), equalTo(ordinaryMoves(board,
+                board.legalGameEvents(color))));
+        }
+    }
+
+    /**
+     * The source and target of each move that is not a castling, en passant
+     * capture or promotion, which the board does not play.
+     */
+    private static Set<String> ordinaryMoves(Position position) {
+        Set<String> moves = new HashSet<String>();
+        int[] buffer = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.legalMoves(position, buffer);
+        for (int i = 0; i < count; i++) {
+            int kind = Move.kind(buffer[i]);
+            if (kind == Move.NORMAL || kind == Move.DOUBLE_PUSH) {
+                moves.add(Move.from(buffer[i]) + "-" + Move.to(buffer[i]));
+            }
+        }
+        return moves;
+    }
+
+    private static Set<String> ordinaryMoves(ChessBoard board, List<GameEvent> events) {
+        Set<String> moves = new HashSet<String>();
+        for (GameEvent event : events) {
+            if (!RandomGames.promotes(board, event)) {
+                moves.add(event.source().index() + "-" + event.target().index());
+            }
+        }
+        return moves;
+    }
+
+}
@@ -1,27 +1,25 @@
 package model.board;
 
+import static model.board.Sugar.square;
+import static model.piece.PieceFactory.newPiece;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Rank;
+import model.enums.Row;
 import model.piece.Piece;
 
 import org.junit.Before;
 import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.mockito.Mock;
-import org.mockito.runners.MockitoJUnitRunner;
 
-@RunWith(MockitoJUnitRunner.class)
 public class BackingMapTest {
 
-    @Mock
-    private Square square1;
-    @Mock
-    private Square square2;
-    @Mock
-    private Piece piece1;
-    @Mock
-    private Piece piece2;
+    private Square square1 = square(Column.C, Row.R3);
+    private Square square2 = square(Column.F, Row.R6);
+    private Piece piece1 = newPiece(Color.WHITE, Rank.Knight, square(Column.B, Row.R1));
+    private Piece piece2 = newPiece(Color.BLACK, Rank.Bishop, square(Column.C, Row.R8));
 
     private BackingMap backingMap;
 
@@ -76,6 +74,50 @@ public class BackingMapTest {
         assertThat(backingMap.getPieceAt(square2), equalTo(piece1));
     }
 
+    @Test
+    public void the_square_holding_a_piece_follows_it_and_is_cleared_when_it_is_captured() {
+        backingMap = backingMap.put(square1, piece1);
+        backingMap = backingMap.put(square2, piece2);
+
+        BackingMap captured = backingMap.capture(square1, square2);
+
+        assertThat(captured.getSquareHolding(piece1), equalTo(square2));
+        assertNull(captured.getSquareHolding(piece2));
+        assertThat(captured.size(), equalTo(1));
+        assertThat(backingMap.getSquareHolding(piece1), equalTo(square1));
+        assertThat(backingMap.getSquareHolding(piece2), equalTo(square2));
+    }
+
+    @Test
+    public void backing_maps_holding_the_same_pieces_on_the_same_squares_are_equal() {
+        BackingMap moved = backingMap.put(square1, piece1).move(square1, square2);
+        BackingMap put = backingMap.put(square2, piece1);
+
+        assertThat(moved, equalTo(put));
+        assertThat(moved.hashCode(), equalTo(put.hashCode()));
+    }
+
+    @Test
+    public void it_keeps_each_colors_pieces_and_occupancy_as_pieces_come_and_go() {
+        backingMap = backingMap.put(square1, piece1);
+        backingMap = backingMap.put(square2, piece2);
+        backingMap = backingMap.capture(square2, square1);
+
+        assertThat(backingMap.pieces(Color.WHITE).isEmpty(), equalTo(true));
+        assertThat(backingMap.pieces(Color.BLACK).size(), equalTo(1));
+        assertThat(backingMap.pieces(Color.BLACK).get(0), equalTo(piece2));
+        assertThat(backingMap.occupancy(Color.BLACK), equalTo(1L << square1.index()));
+        assertThat(backingMap.occupancy(Color.BLACK, Rank.Bishop), equalTo(1L << square1.index()));
+        assertThat(backingMap.occupancy(Color.WHITE, Rank.Knight), equalTo(0L));
+    }
+
+    @Test
+    public void a_colors_pieces_are_listed_once_per_position() {
+        backingMap = backingMap.put(square1, piece1);
+
+        assertThat(backingMap.pieces(Color.WHITE) == backingMap.pieces(Color.WHITE), equalTo(true));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void illegalArgumentException_is_thrown_when_attempting_to_set_a_piece_on_a_square_that_is_occupied_by_a_new_piece() {
         backingMap = backingMap.put(square1, piece1);
@@ -0,0 +1,103 @@
+package model.board;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.put;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import model.enums.Color;
+import model.enums.Rank;
+import model.piece.Piece;
+
+import org.junit.Test;
+
+public class BoardAnalysisTest {
+
+    @Test
+    public void attackers_and_defenders_agree_with_the_views_over_random_games() {
+        for (ChessBoard board : RandomGames.positions(50L, 20, 60)) {
+            assertAgreesWithViews(board);
+        }
+    }
+
+    @Test
+    public void an_undefended_piece_under_attack_is_hanging() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(move(square(12), square(28)))
+            .playEvent(move(square(51), square(35)));
+        BoardAnalysis analysis = board.analysis();
+
+        Piece whitePawn = board.pieceAt(square(28));
+        Piece blackPawn = board.pieceAt(square(35));
+
+        assertThat(analysis.attackers(whitePawn), equalTo(Arrays.asList(blackPawn)));
+        assertThat(analysis.isHanging(whitePawn), equalTo(true));
+        assertThat(analysis.hangingPieces(Color.WHITE), equalTo(Arrays.asList(whitePawn)));
+        assertThat(analysis.isHanging(blackPawn), equalTo(false));
+        assertThat(analysis.defenders(blackPawn), equalTo(Arrays.asList(board.pieceAt(square(59)))));
+        assertThat(analysis.hangingPieces(Color.BLACK).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void control_counts_the_pieces_reaching_a_square() {
+        ChessBoard board = new ChessBoard().playEvent(put(Color.WHITE, Rank.Rook, square(0)))
+            .playEvent(put(Color.WHITE, Rank.Knight, square(10)))
+            .playEvent(put(Color.BLACK, Rank.Bishop, square(41)));
+        BoardAnalysis analysis = board.analysis();
+
+        assertThat(analysis.control(square(16), Color.WHITE), equalTo(2));
+        assertThat(analysis.control(square(16), Color.BLACK), equalTo(0));
+        assertThat(analysis.controllingColor(square(16)), equalTo(Color.WHITE));
+        assertThat(analysis.control(square(27), Color.WHITE), equalTo(1));
+        assertThat(analysis.control(square(27), Color.BLACK), equalTo(1));
+        assertThat(analysis.controllingColor(square(27)), nullValue());
+        assertThat(analysis.control(square(10), Color.BLACK), equalTo(0));
+    }
+
+    @Test
+    public void the_analysis_is_worked_out_once_per_board() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+
+        assertThat(board.analysis() == board.analysis(), equalTo(true));
+    }
+
+    private static void assertAgreesWithViews(ChessBoard board) {
+        BoardAnalysis analysis = board.analysis();
+        for (Color color : Color.values()) {
+            for (Piece piece : board.piecesFor(color)) {
+                List<Piece> attackers = piece.opponentsAttackingMe(board);
+                List<Piece> defenders = piece.teammatesDefendingMe(board);
+                assertThat(analysis.attackers(piece), equalTo(attackers));
+                assertThat(analysis.defenders(piece), equalTo(defenders));
+                assertThat(analysis.isHanging(piece), equalTo(!attackers.isEmpty() && defenders.isEmpty()));
+            }
+        }
+
+        for (int index = 0; index < 64; index++) {
+            Square square = square(index);
+            for (Color color : Color.values()) {
+                assertThat(analysis.control(square, color), equalTo(reaching(board, square, color).size()));
+            }
+        }
+    }
+
+    private static List<Piece> reaching(ChessBoard board, Square square, Color color) {
+        List<Piece> reaching = new ArrayList<Piece>();
+        Piece target = board.pieceAt(square);
+        for (Piece piece : board.piecesFor(color)) {
+            boolean reaches = target == null ? piece.threatenedSquares(board).contains(square) : target.color()
+                .equals(color) ? piece.teammatesDefended(board).contains(target) : piece.opponentPiecesAttacked(
+                board).contains(target);
+            if (reaches) {
+                reaching.add(piece);
+            }
+        }
+        return reaching;
+    }
+
+}
@@ -0,0 +1,103 @@
+package model.board;
+
+import static model.board.Sugar.eventList;
+import static model.board.Sugar.move;
+import static model.board.Sugar.play;
+import static model.board.Sugar.put;
+import static model.board.Sugar.square;
+import static model.piece.PieceFactory.newPiece;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Rank;
+import model.enums.Row;
+import model.piece.Piece;
+
+import org.junit.Test;
+
+public class BoardBuilderTest {
+
+    private Square a_1 = square(Column.A, Row.R1);
+    private Square e_1 = square(Column.E, Row.R1);
+    private Square e_8 = square(Column.E, Row.R8);
+    private Square h_7 = square(Column.H, Row.R7);
+
+    private PutEvent put_w_king_e_1 = put(Color.WHITE, Rank.King, e_1);
+    private PutEvent put_b_king_e_8 = put(Color.BLACK, Rank.King, e_8);
+    private PutEvent put_w_rook_h_7 = put(Color.WHITE, Rank.Rook, h_7);
+
+    @Test
+    public void it_builds_the_board_the_puts_would_play() {
+        List<GameEvent> puts = eventList(put_w_king_e_1, put_b_king_e_8, put_w_rook_h_7);
+
+        ChessBoard board = new BoardBuilder().putAll(puts).build();
+
+        assertThat(board, equalTo(play(puts, new ChessBoard())));
+        assertThat(board.boardIsSet(), equalTo(false));
+    }
+
+    @Test
+    public void it_builds_the_standard_setup() {
+        assertThat(new BoardSetter().setBoard().setBoardForGameInProgress(),
+            equalTo(new ChessBoard().setBoardForGame()));
+    }
+
+    @Test
+    public void the_builder_can_keep_building_after_build() {
+        BoardBuilder builder = new BoardBuilder().put(put_w_king_e_1);
+        ChessBoard oneKing = builder.build();
+        ChessBoard twoKings = builder.put(Color.BLACK, Rank.King, e_8).build();
+
+        assertThat(oneKing.gameEvents().size(), equalTo(1));
+        assertThat(twoKings.gameEvents().size(), equalTo(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void it_rejects_a_put_on_an_occupied_square() {
+        new BoardBuilder().put(put_w_king_e_1).put(Color.BLACK, Rank.Queen, e_1);
+    }
+
+    @Test
+    public void a_piece_put_twice_through_the_builder_lands_on_its_occupied_home_square() {
+        BoardBuilder builder = new BoardBuilder().put(put(newPiece(Color.WHITE, Rank.Rook, a_1)));
+
+        assertThat(putMessage(builder, put(newPiece(Color.WHITE, Rank.Rook, a_1))),
+            equalTo("Attempted to put a piece on an occupied square!"));
+    }
+
+    @Test
+    public void it_rejects_putting_a_piece_twice_on_an_empty_square() {
+        Piece rook = newPiece(Color.WHITE, Rank.Rook, a_1);
+        BackingMap.Builder backingMap = new BackingMap().builder().put(a_1, rook);
+
+        String message = null;
+        try {
+            backingMap.put(h_7, rook);
+        } catch (IllegalArgumentException e) {
+            message = e.getMessage();
+        }
+
+        assertThat(message, equalTo("Attempted to put the same piece on the board twice!"));
+        assertThat(backingMap.build().getPieceAt(h_7), nullValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void it_rejects_events_other_than_puts() {
+        new BoardBuilder().putAll(eventList(put_w_king_e_1, move(e_1, a_1)));
+    }
+
+    private static String putMessage(BoardBuilder builder, PutEvent put) {
+        try {
+            builder.put(put);
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,37 @@
+package model.board;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import model.enums.Color;
+
+import org.junit.Test;
+
+public class BoardCacheTest {
+
+    @Test
+    public void inherited_events_match_events_computed_from_scratch() {
+        for (ChessBoard board : RandomGames.positions(42L, 40, 60)) {
+            for (Color color : Color.values()) {
+                assertThat(board.potentialGameEvents(color), equalTo(RandomGames.uncached(board)
+                    .potentialGameEvents(color)));
+            }
+        }
+    }
+
+    @Test
+    public void a_move_keeps_the_events_of_pieces_it_does_not_reach() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        board.potentialGameEvents(Color.BLACK);
+
+        ChessBoard child = board.playEvent(Sugar.move(Sugar.square(8), Sugar.square(16)));
+
+        List<GameEvent> knightEvents = board.possibleEventsCached(Sugar.square(62));
+        assertThat(child.possibleEventsCached(Sugar.square(62)) == knightEvents, equalTo(true));
+        assertThat(child.possibleEventsCached(Sugar.square(60)) == null, equalTo(true));
+    }
+
+
+}
@@ -0,0 +1,68 @@
+package model.board;
+
+import static model.board.Sugar.capture;
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import model.enums.Column;
+import model.enums.Row;
+
+import org.junit.Test;
+
+public class ChessBoardCodecTest {
+
+    @Test
+    public void an_empty_board_round_trips() throws IOException {
+        ChessBoard board = new ChessBoard();
+
+        assertThat(roundTrip(board), equalTo(board));
+        assertThat(roundTrip(board).boardIsSet(), equalTo(false));
+    }
+
+    @Test
+    public void a_game_in_progress_round_trips() throws IOException {
+        MoveEvent e_2_e_4 = move(square(Column.E, Row.R2), square(Column.E, Row.R4));
+        MoveEvent d_7_d_5 = move(square(Column.D, Row.R7), square(Column.D, Row.R5));
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(e_2_e_4).playEvent(d_7_d_5);
+        board = board.playEvent(capture(e_2_e_4.target(), d_7_d_5.target(), board.pieceAt(d_7_d_5.target())));
+
+        ChessBoard read = roundTrip(board);
+
+        assertThat(read, equalTo(board));
+        assertThat(read.boardIsSet(), equalTo(true));
+        assertThat(read.gameEvents(), equalTo(board.gameEvents()));
+    }
+
+    @Test
+    public void a_position_round_trips_without_its_events() throws IOException {
+        MoveEvent e_2_e_4 = move(square(Column.E, Row.R2), square(Column.E, Row.R4));
+        MoveEvent d_7_d_5 = move(square(Column.D, Row.R7), square(Column.D, Row.R5));
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(e_2_e_4);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChessBoardCodec.writePosition(board, new DataOutputStream(bytes));
+        ChessBoard read = ChessBoardCodec.readPosition(new DataInputStream(new ByteArrayInputStream(bytes
+            .toByteArray())));
+
+        assertThat(bytes.size(), equalTo(2 + 4 * 32));
+        assertThat(read.gameEvents().isEmpty(), equalTo(true));
+        assertThat(read.boardIsSet(), equalTo(true));
+        assertThat(read.pieceAt(e_2_e_4.target()), equalTo(board.pieceAt(e_2_e_4.target())));
+        assertThat(read.playEvent(d_7_d_5).pieceAt(d_7_d_5.target()), equalTo(board.pieceAt(d_7_d_5.source())));
+    }
+
+    private static ChessBoard roundTrip(ChessBoard board) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChessBoardCodec.write(board, new DataOutputStream(bytes));
+        return ChessBoardCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+
+}
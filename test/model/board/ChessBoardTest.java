@@ -1,6 +1,7 @@
 package model.board;
 
 import static model.board.Sugar.capture;
+import static model.board.Sugar.eventList;
 import static model.board.Sugar.move;
 import static model.board.Sugar.put;
 import static model.board.Sugar.remove;
@@ -10,9 +11,11 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import model.enums.Color;
@@ -80,6 +83,19 @@ public class ChessBoardTest {
         assertThat(new ChessBoard().setBoardForGame().boardIsSet(), equalTo(true));
     }
 
+    @Test
+    public void setBoardForGame_shares_one_starting_position() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+
+        assertSame(board, new ChessBoard().setBoardForGame());
+        assertThat(board, equalTo(new BoardSetter().setBoard().setBoardForGameInProgress()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void the_shared_starting_position_cannot_be_modified() {
+        new ChessBoard().setBoardForGame().gameEvents().add(move_pawn_e_2_e_4);
+    }
+
     @Test
     public void setBoardForGameInProgress_sets_the_board() {
         chessBoard = new ChessBoard();
@@ -162,6 +178,35 @@ public class ChessBoardTest {
         }
     }
 
+    @Test
+    public void replayTrusted_restores_the_board_played_through_playEvent() {
+        ChessBoard played = new ChessBoard().setBoardForGame().playEvent(move_pawn_e_2_e_4);
+
+        ChessBoard restored = new ChessBoard().replayTrusted(played.gameEvents());
+
+        assertThat(restored, equalTo(played));
+        assertThat(restored.boardIsSet(), equalTo(true));
+    }
+
+    @Test
+    public void replayTrusted_skips_the_legality_guards() {
+        MoveEvent pawn_e_2_e_5 = move(e_2, square(Column.E, Row.R5));
+
+        chessBoard = new ChessBoard().setBoardForGame().replayTrusted(eventList(pawn_e_2_e_5));
+
+        assertThat(chessBoard.pieceAt(pawn_e_2_e_5.target()), equalTo(w_pawn_e_2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void replayTrusted_keeps_the_structural_checks() {
+        new ChessBoard().setBoardForGame().replayTrusted(eventList(move(e_3, e_4)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void replayTrusted_does_not_put_on_a_set_board() {
+        new ChessBoard().setBoardForGame().replayTrusted(eventList(put_w_queen_e_3));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void setBoardInProgress_throws_exception_if_the_board_is_empty() {
         new ChessBoard().setBoardForGameInProgress();
@@ -214,4 +259,68 @@ public class ChessBoardTest {
         chessBoard = new ChessBoard().remove(remove_rook_a_1);
     }
 
+    @Test
+    public void a_board_builds_each_view_once() {
+        chessBoard = new ChessBoard().setBoardForGame().playEvent(move(square(Column.E, Row.R2), square(Column.E, Row.R4)));
+        Piece w_queen = chessBoard.pieceAt(square(Column.D, Row.R1));
+
+        assertSame(chessBoard.rankView(w_queen), chessBoard.rankView(w_queen));
+        assertThat(chessBoard.rankView(w_queen).moveToSquares().size(), equalTo(4));
+    }
+
+    @Test
+    public void a_board_computes_each_colors_potential_events_once() {
+        chessBoard = new ChessBoard().setBoardForGame();
+        List<GameEvent> events = new ChessBoard().setBoardForGame().playEvent(move(square(Column.E, Row.R2),
+            square(Column.E, Row.R4))).potentialGameEvents(Color.BLACK);
+
+        assertSame(chessBoard.potentialGameEvents(Color.WHITE), chessBoard.potentialGameEvents(Color.WHITE));
+        assertThat(chessBoard.potentialGameEvents(Color.WHITE).size(), equalTo(20));
+        assertThat(events.size(), equalTo(20));
+    }
+
+    @Test
+    public void no_king_is_in_check_at_the_start() {
+        chessBoard = new ChessBoard().setBoardForGame();
+
+        assertFalse(chessBoard.isInCheck(Color.WHITE));
+        assertFalse(chessBoard.isInCheck(Color.BLACK));
+    }
+
+    @Test
+    public void a_queen_on_an_open_diagonal_gives_check() {
+        chessBoard = new ChessBoard().setBoardForGame().playEvent(move(square(Column.F, Row.R2), square(Column.F, Row.R3)))
+            .playEvent(move(e_7, square(Column.E, Row.R5)))
+            .playEvent(move(square(Column.G, Row.R2), square(Column.G, Row.R4)))
+            .playEvent(move(square(Column.D, Row.R8), square(Column.H, Row.R4)));
+
+        assertThat(chessBoard.isInCheck(Color.WHITE), equalTo(true));
+        assertThat(chessBoard.checkers(Color.WHITE), equalTo(Arrays.asList(chessBoard.pieceAt(square(Column.H, Row.R4)))));
+        assertFalse(chessBoard.isInCheck(Color.BLACK));
+    }
+
+    @Test
+    public void a_blocked_line_gives_no_check() {
+        chessBoard = new ChessBoard().playEvent(put(Color.WHITE, Rank.King, e_2))
+            .playEvent(put(Color.BLACK, Rank.Rook, e_7)).playEvent(put(Color.WHITE, Rank.Pawn, e_4));
+
+        assertFalse(chessBoard.isInCheck(Color.WHITE));
+    }
+
+    @Test
+    public void a_pawn_and_a_knight_give_double_check() {
+        chessBoard = new ChessBoard().playEvent(put(Color.WHITE, Rank.King, e_4))
+            .playEvent(put(Color.BLACK, Rank.Pawn, square(Column.D, Row.R5)))
+            .playEvent(put(Color.BLACK, Rank.Knight, square(Column.F, Row.R6)))
+            .playEvent(put(Color.BLACK, Rank.Pawn, square(Column.E, Row.R5)));
+
+        assertThat(chessBoard.checkers(Color.WHITE).size(), equalTo(2));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void cached_potential_events_cannot_be_modified() {
+        new ChessBoard().setBoardForGame().potentialGameEvents(Color.WHITE).clear();
+    }
+
+
 }
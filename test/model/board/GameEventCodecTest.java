@@ -0,0 +1,64 @@
+package model.board;
+
+import static model.board.GameEventCodec.decode;
+import static model.board.GameEventCodec.encode;
+import static model.board.Sugar.capture;
+import static model.board.Sugar.move;
+import static model.board.Sugar.put;
+import static model.board.Sugar.remove;
+import static model.board.Sugar.square;
+import static model.piece.PieceFactory.newPiece;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Rank;
+import model.enums.Row;
+
+import org.junit.Test;
+
+public class GameEventCodecTest {
+
+    private Square a_1 = square(Column.A, Row.R1);
+    private Square h_8 = square(Column.H, Row.R8);
+    private Square e_4 = square(Column.E, Row.R4);
+
+    @Test
+    public void it_round_trips_a_put() {
+        GameEvent put = put(Color.BLACK, Rank.King, h_8);
+        assertThat(decode(encode(put)), equalTo(put));
+    }
+
+    @Test
+    public void it_round_trips_a_put_off_its_home_square() {
+        GameEvent put = put(newPiece(Color.WHITE, Rank.Pawn, a_1), e_4);
+        assertThat(decode(encode(put)), equalTo(put));
+    }
+
+    @Test
+    public void it_round_trips_a_remove() {
+        GameEvent remove = remove(a_1);
+        assertThat(decode(encode(remove)), equalTo(remove));
+    }
+
+    @Test
+    public void it_round_trips_a_move() {
+        GameEvent move = move(h_8, a_1);
+        assertThat(decode(encode(move)), equalTo(move));
+    }
+
+    @Test
+    public void it_round_trips_a_capture() {
+        GameEvent capture = capture(e_4, h_8, newPiece(Color.WHITE, Rank.Queen, a_1));
+        assertThat(decode(encode(capture)), equalTo(capture));
+    }
+
+    @Test
+    public void it_round_trips_every_event_of_the_standard_setup() {
+        for (GameEvent event : new ChessBoard().setBoardForGame().gameEvents()) {
+            assertThat(decode(encode(event)), equalTo(event));
+        }
+    }
+
+}
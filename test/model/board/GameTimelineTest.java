@@ -0,0 +1,86 @@
+package model.board;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.enums.Column;
+import model.enums.Row;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class GameTimelineTest {
+
+    private Square g_1 = square(Column.G, Row.R1);
+    private Square f_3 = square(Column.F, Row.R3);
+    private Square g_8 = square(Column.G, Row.R8);
+    private Square f_6 = square(Column.F, Row.R6);
+
+    private List<ChessBoard> boards;
+    private GameTimeline timeline;
+
+    @Before
+    public void setUp() {
+        boards = new ArrayList<ChessBoard>();
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        boards.add(board);
+
+        for (int i = 0; i < 10; i++) {
+            board = board.playEvent(move(g_1, f_3));
+            boards.add(board);
+            board = board.playEvent(move(g_8, f_6));
+            boards.add(board);
+            board = board.playEvent(move(f_3, g_1));
+            boards.add(board);
+            board = board.playEvent(move(f_6, g_8));
+            boards.add(board);
+        }
+        timeline = new GameTimeline(board, 6);
+    }
+
+    @Test
+    public void it_counts_the_plies_after_the_setup() {
+        assertThat(timeline.plies(), equalTo(40));
+    }
+
+    @Test
+    public void it_restores_the_board_at_every_ply() {
+        for (int ply = 0; ply <= timeline.plies(); ply++) {
+            assertThat(timeline.boardAt(ply), equalTo(boards.get(ply)));
+        }
+    }
+
+    @Test
+    public void it_restores_boards_in_any_order() {
+        assertThat(timeline.boardAt(37), equalTo(boards.get(37)));
+        assertThat(timeline.boardAt(3), equalTo(boards.get(3)));
+        assertThat(timeline.boardAt(24), equalTo(boards.get(24)));
+    }
+
+    @Test
+    public void restored_boards_can_be_played_on() {
+        ChessBoard board = timeline.boardAt(8).playEvent(move(g_1, f_3));
+
+        assertThat(board, equalTo(boards.get(9)));
+    }
+
+    @Test
+    public void an_unset_board_has_only_its_setup() {
+        ChessBoard board = new BoardSetter().setBoard();
+        GameTimeline setup = new GameTimeline(board);
+
+        assertThat(setup.plies(), equalTo(0));
+        assertThat(setup.boardAt(0), equalTo(board));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void it_rejects_plies_past_the_end_of_the_game() {
+        timeline.boardAt(41);
+    }
+
+}
@@ -0,0 +1,140 @@
+package model.board;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.put;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Rank;
+import model.enums.Row;
+import model.piece.Piece;
+
+import org.junit.Test;
+
+public class LegalMovesTest {
+
+    private Square e_1 = square(Column.E, Row.R1);
+    private Square e_2 = square(Column.E, Row.R2);
+    private Square e_8 = square(Column.E, Row.R8);
+    private Square d_2 = square(Column.D, Row.R2);
+
+    @Test
+    public void perft_from_the_starting_position() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+
+        assertThat(perft(board, Color.WHITE, 1), equalTo(20L));
+        assertThat(perft(board, Color.WHITE, 2), equalTo(400L));
+        assertThat(perft(board, Color.WHITE, 3), equalTo(8902L));
+        assertThat(perft(board, Color.WHITE, 4), equalTo(197281L));
+    }
+
+    @Test
+    public void perft_agrees_with_playing_each_event_and_asking_the_views() {
+        Random random = new Random(99L);
+
+        for (int game = 0; game < 10; game++) {
+            ChessBoard board = RandomGames.legalGame(random, 20 + random.nextInt(20));
+            Color color = RandomGames.sideToMove(board);
+
+            assertThat(perft(board, color, 2), equalTo(referencePerft(board, color, 2)));
+        }
+    }
+
+    @Test
+    public void legal_events_agree_with_playing_each_event_and_asking_the_views() {
+        for (ChessBoard board : RandomGames.legalPositions(2024L, 30, 80)) {
+            Color color = RandomGames.sideToMove(board);
+            assertThat(board.legalGameEvents(color), equalTo(referenceLegalEvents(board, color)));
+        }
+    }
+
+    @Test
+    public void a_pinned_piece_moves_only_along_the_pin() {
+        ChessBoard board = new ChessBoard().playEvent(put(Color.WHITE, Rank.King, e_1))
+            .playEvent(put(Color.WHITE, Rank.Rook, e_2)).playEvent(put(Color.BLACK, Rank.Queen, e_8))
+            .setBoardForGameInProgress();
+
+        for (GameEvent event : board.legalGameEvents(Color.WHITE)) {
+            if (event.source().equals(e_2)) {
+                assertThat(event.target().col(), equalTo(Column.E));
+            }
+        }
+        assertThat(board.legalGameEvents(Color.WHITE).size(), equalTo(6 + 4));
+    }
+
+    @Test
+    public void a_king_cannot_step_back_along_a_checking_line() {
+        ChessBoard board = new ChessBoard().playEvent(put(Color.WHITE, Rank.King, e_2))
+            .playEvent(put(Color.BLACK, Rank.Rook, e_8)).setBoardForGameInProgress();
+
+        List<GameEvent> legal = board.legalGameEvents(Color.WHITE);
+
+        assertThat(legal.contains(move(e_2, e_1)), equalTo(false));
+        assertThat(legal.contains(move(e_2, d_2)), equalTo(true));
+        assertThat(legal.size(), equalTo(6));
+    }
+
+    @Test
+    public void only_the_king_moves_in_double_check() {
+        ChessBoard board = new ChessBoard().playEvent(put(Color.WHITE, Rank.King, e_1))
+            .playEvent(put(Color.WHITE, Rank.Queen, square(Column.A, Row.R4)))
+            .playEvent(put(Color.BLACK, Rank.Rook, e_8))
+            .playEvent(put(Color.BLACK, Rank.Knight, square(Column.F, Row.R3))).setBoardForGameInProgress();
+
+        for (GameEvent event : board.legalGameEvents(Color.WHITE)) {
+            assertThat(event.source(), equalTo(e_1));
+        }
+    }
+
+    private static long perft(ChessBoard board, Color color, int depth) {
+        List<GameEvent> events = board.legalGameEvents(color);
+        if (depth == 1) {
+            return events.size();
+        }
+        long nodes = 0;
+        for (GameEvent event : events) {
+            nodes += perft(board.playEvent(event), color.opponentColor(), depth - 1);
+        }
+        return nodes;
+    }
+
+    private static long referencePerft(ChessBoard board, Color color, int depth) {
+        List<GameEvent> events = referenceLegalEvents(board, color);
+        if (depth == 1) {
+            return events.size();
+        }
+        long nodes = 0;
+        for (GameEvent event : events) {
+            nodes += referencePerft(board.playEvent(event), color.opponentColor(), depth - 1);
+        }
+        return nodes;
+    }
+
+    /**
+     * The potential events after which no opposing view attacks the king.
+     */
+    private static List<GameEvent> referenceLegalEvents(ChessBoard board, Color color) {
+        List<GameEvent> legal = new ArrayList<GameEvent>();
+        for (GameEvent event : board.potentialGameEvents(color)) {
+            ChessBoard child = board.playEvent(event);
+            boolean attacked = false;
+            for (Piece piece : child.piecesFor(color)) {
+                if (piece.rank() == Rank.King && !piece.opponentsAttackingMe(child).isEmpty()) {
+                    attacked = true;
+                }
+            }
+            if (!attacked) {
+                legal.add(event);
+            }
+        }
+        return legal;
+    }
+
+}
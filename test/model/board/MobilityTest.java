@@ -0,0 +1,107 @@
+package model.board;
+
+import static model.board.Sugar.put;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import model.enums.Color;
+import model.enums.Rank;
+import model.piece.Piece;
+
+import org.junit.Test;
+
+public class MobilityTest {
+
+    @Test
+    public void counts_agree_with_the_views_over_random_games() {
+        for (ChessBoard board : RandomGames.positions(49L, 30, 60)) {
+            assertCountsAgree(board);
+        }
+    }
+
+    @Test
+    public void counts_agree_with_the_views_on_random_set_ups() {
+        Random random = new Random(94L);
+
+        for (int i = 0; i < 300; i++) {
+            ChessBoard board = new ChessBoard();
+            int pieces = 2 + random.nextInt(24);
+            for (int p = 0; p < pieces; p++) {
+                Rank rank = Rank.values()[random.nextInt(Rank.values().length)];
+                Square square = square(random.nextInt(64));
+                if (board.pieceAt(square) == null) {
+                    board = board.playEvent(put(Color.values()[random.nextInt(2)], rank, square));
+                }
+            }
+            assertCountsAgree(board);
+        }
+    }
+
+    @Test
+    public void a_pawn_on_its_home_row_moves_one_or_two_squares() {
+        assertPawnCounts(Color.WHITE, square(12), 2, 2);
+        assertPawnCounts(Color.BLACK, square(52), 2, 2);
+        assertPawnCounts(Color.WHITE, square(8), 2, 1);
+        assertPawnCounts(Color.BLACK, square(55), 2, 1);
+    }
+
+    @Test
+    public void a_pawn_set_up_next_to_the_far_edge_moves_one_square() {
+        assertPawnCounts(Color.WHITE, square(52), 1, 2);
+        assertPawnCounts(Color.BLACK, square(12), 1, 2);
+        assertPawnCounts(Color.WHITE, square(55), 1, 1);
+        assertPawnCounts(Color.BLACK, square(8), 1, 1);
+    }
+
+    @Test
+    public void a_pawn_on_the_far_edge_has_no_squares() {
+        assertPawnCounts(Color.WHITE, square(60), 0, 0);
+        assertPawnCounts(Color.BLACK, square(4), 0, 0);
+    }
+
+    @Test
+    public void a_pawn_set_up_on_the_near_edge_counts_as_unmoved() {
+        assertPawnCounts(Color.WHITE, square(4), 2, 2);
+        assertPawnCounts(Color.BLACK, square(63), 2, 1);
+    }
+
+    @Test
+    public void a_piece_off_the_board_has_no_mobility() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        Piece piece = new ChessBoard().playEvent(put(Color.WHITE, Rank.Queen, square(27))).pieceAt(square(27));
+
+        assertThat(board.mobility(piece), equalTo(0));
+        assertThat(board.mobility(Color.WHITE), equalTo(20));
+    }
+
+    private static void assertPawnCounts(Color color, Square square, int mobility, int threatened) {
+        ChessBoard board = new ChessBoard().playEvent(put(color, Rank.Pawn, square));
+        Piece pawn = board.pieceAt(square);
+
+        assertThat(board.mobility(pawn), equalTo(mobility));
+        assertThat(board.threatenedSquareCount(pawn), equalTo(threatened));
+        assertThat(pawn.moveToSquares(board).size(), equalTo(mobility));
+        assertThat(pawn.threatenedSquares(board).size(), equalTo(threatened));
+    }
+
+    private static void assertCountsAgree(ChessBoard board) {
+        for (Color color : Color.values()) {
+            int mobility = 0;
+            Set<Square> threatened = new HashSet<Square>();
+            for (Piece piece : board.piecesFor(color)) {
+                assertThat(board.mobility(piece), equalTo(piece.moveToSquares(board).size()));
+                assertThat(board.threatenedSquareCount(piece), equalTo(piece.threatenedSquares(board).size()));
+                mobility += piece.moveToSquares(board).size();
+                threatened.addAll(piece.threatenedSquares(board));
+            }
+            assertThat(board.mobility(color), equalTo(mobility));
+            assertThat(board.threatenedSquareCount(color), equalTo(threatened.size()));
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package model.board;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Row;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MoveCacheTest {
+
+    private MoveEvent e_2_e_4 = move(square(Column.E, Row.R2), square(Column.E, Row.R4));
+    private MoveEvent d_7_d_5 = move(square(Column.D, Row.R7), square(Column.D, Row.R5));
+    private MoveEvent g_1_f_3 = move(square(Column.G, Row.R1), square(Column.F, Row.R3));
+
+    private MoveCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new MoveCache(10000);
+        MoveCache.install(cache);
+    }
+
+    @After
+    public void tearDown() {
+        MoveCache.install(null);
+    }
+
+    @Test
+    public void boards_in_the_same_position_share_their_events() {
+        ChessBoard start = new ChessBoard().setBoardForGame();
+        ChessBoard first = start.playEvent(e_2_e_4).playEvent(d_7_d_5);
+        ChessBoard second = start.playEvent(e_2_e_4).playEvent(d_7_d_5);
+
+        List<GameEvent> computed = first.potentialGameEvents(Color.WHITE);
+        List<GameEvent> cached = second.potentialGameEvents(Color.WHITE);
+
+        assertThat(cached, equalTo(computed));
+        assertThat(cache.misses(), equalTo(1L));
+        assertThat(cache.hits(), equalTo(1L));
+    }
+
+    @Test
+    public void cached_captures_take_the_captured_piece_from_the_board_asked() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(e_2_e_4).playEvent(d_7_d_5);
+        ChessBoard transposed = new ChessBoard().setBoardForGame().playEvent(d_7_d_5).playEvent(e_2_e_4);
+
+        board.potentialGameEvents(Color.WHITE);
+        List<GameEvent> events = transposed.potentialGameEvents(Color.WHITE);
+
+        assertThat(cache.hits(), equalTo(1L));
+        assertThat(events, equalTo(transposed.generatePotentialGameEvents(Color.WHITE)));
+    }
+
+    @Test
+    public void colors_are_cached_separately() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(g_1_f_3);
+
+        assertThat(board.potentialGameEvents(Color.BLACK), equalTo(board.generatePotentialGameEvents(Color.BLACK)));
+        assertThat(board.potentialGameEvents(Color.WHITE), equalTo(board.generatePotentialGameEvents(Color.WHITE)));
+        assertThat(cache.size(), equalTo(2L));
+    }
+
+    @Test
+    public void positions_are_evicted_to_stay_within_the_event_bound() {
+        MoveCache small = new MoveCache(100);
+        MoveCache.install(small);
+        ChessBoard start = new ChessBoard().setBoardForGame();
+
+        for (GameEvent opening : start.generatePotentialGameEvents(Color.WHITE)) {
+            start.playEvent(opening).potentialGameEvents(Color.BLACK);
+        }
+
+        assertThat(small.misses(), equalTo(20L));
+        assertThat(small.evictions() > 0, equalTo(true));
+        assertThat(small.size() <= 100 / 20, equalTo(true));
+    }
+
+    @Test
+    public void boards_do_not_use_the_cache_once_it_is_uninstalled() {
+        MoveCache.install(null);
+
+        new ChessBoard().setBoardForGame().playEvent(g_1_f_3).potentialGameEvents(Color.WHITE);
+
+        assertThat(cache.misses(), equalTo(0L));
+        assertThat(cache.size(), equalTo(0L));
+    }
+
+}
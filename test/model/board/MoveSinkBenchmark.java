@@ -0,0 +1,127 @@
+package model.board;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+
+import java.lang.management.ManagementFactory;
+
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Row;
+import model.piece.Piece;
+
+/**
+ * Compares building the potential events list with pushing the same events
+ * into a counting {@link MoveSink}, in time and in bytes allocated per call.
+ * Run with {@code java model.board.MoveSinkBenchmark}; it is not part of the
+ * test suite. Allocation is read from the JVM's per-thread counter, so it
+ * needs a HotSpot JVM.
+ */
+public class MoveSinkBenchmark {
+
+    private static final int WARMUP_ROUNDS = 20000;
+    private static final int ROUNDS = 20000;
+    private static final int RUNS = 5;
+
+    private interface Generation {
+        int run(ChessBoard board);
+    }
+
+    private static final class Counter implements MoveSink {
+        private int count;
+
+        @Override
+        public boolean move(Square source, Square target) {
+            count++;
+            return true;
+        }
+
+        @Override
+        public boolean capture(Square source, Square target, Piece targetedPiece) {
+            count++;
+            return true;
+        }
+    }
+
+    public static void main(String[] args) {
+        final ChessBoard board = developedPosition();
+        final Counter counter = new Counter();
+
+        measure("list, fresh board", board, true, new Generation() {
+            @Override
+            public int run(ChessBoard board) {
+                return board.potentialGameEvents(Color.WHITE).size();
+            }
+        });
+        measure("push, fresh board", board, true, new Generation() {
+            @Override
+            public int run(ChessBoard board) {
+                counter.count = 0;
+                board.pushPotentialGameEvents(Color.WHITE, counter);
+                return counter.count;
+            }
+        });
+        final ChessBoard listed = uncached(board);
+        listed.potentialGameEvents(Color.WHITE);
+        measure("push, events listed", listed, false, new Generation() {
+            @Override
+            public int run(ChessBoard board) {
+                counter.count = 0;
+                board.pushPotentialGameEvents(Color.WHITE, counter);
+                return counter.count;
+            }
+        });
+    }
+
+    /**
+     * Times the generation over the board, or over a fresh copy of it each
+     * round. The copies are made before the clock and the allocation counter
+     * are read.
+     */
+    private static void measure(String name, ChessBoard board, boolean fresh, Generation generation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        int sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += generation.run(fresh ? uncached(board) : board);
+        }
+        long best = Long.MAX_VALUE;
+        long bytes = Long.MAX_VALUE;
+        ChessBoard[] boards = new ChessBoard[ROUNDS];
+        for (int run = 0; run < RUNS; run++) {
+            for (int round = 0; round < ROUNDS; round++) {
+                boards[round] = fresh ? uncached(board) : board;
+            }
+            long allocated = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int round = 0; round < ROUNDS; round++) {
+                sink += generation.run(boards[round]);
+            }
+            best = Math.min(best, System.nanoTime() - start);
+            bytes = Math.min(bytes, threads.getThreadAllocatedBytes(thread) - allocated);
+        }
+        System.out.printf("%-20s %8.0f ns/call %8.1f bytes/call (%d)%n", name, best / (double) ROUNDS, bytes
+            / (double) ROUNDS, sink);
+    }
+
+    private static ChessBoard uncached(ChessBoard board) {
+        return new ChessBoard(board.gameEvents(), board.backingMap(), board.boardIsSet());
+    }
+
+    private static ChessBoard developedPosition() {
+        String[] moves = { "E2E4", "E7E5", "G1F3", "B8C6", "F1C4", "G8F6", "D2D3", "F8C5", "B1C3", "D7D6", "C1G5",
+                "H7H6" };
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        for (String move : moves) {
+            board = board.playEvent(move(at(move.charAt(0), move.charAt(1)), at(move.charAt(2), move.charAt(3))));
+        }
+        return board;
+    }
+
+    private static Square at(char column, char row) {
+        return square(Column.valueOf(String.valueOf(column)), Row.valueOf("R" + row));
+    }
+
+}
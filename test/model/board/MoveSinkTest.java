@@ -0,0 +1,86 @@
+package model.board;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.enums.Color;
+import model.piece.Piece;
+
+import org.junit.Test;
+
+public class MoveSinkTest {
+
+    @Test
+    public void pushed_events_match_potential_events() {
+        for (ChessBoard board : RandomGames.positions(47L, 30, 60)) {
+            for (Color color : Color.values()) {
+                assertThat(pushed(RandomGames.uncached(board), color), equalTo(board.potentialGameEvents(color)));
+                assertThat(pushed(board, color), equalTo(board.potentialGameEvents(color)));
+            }
+        }
+    }
+
+    @Test
+    public void a_piece_pushes_its_possible_events() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(move(square(12), square(28)))
+            .playEvent(move(square(51), square(35)));
+
+        for (Color color : Color.values()) {
+            for (Piece piece : board.piecesFor(color)) {
+                Collector collector = new Collector(Integer.MAX_VALUE);
+                piece.pushEvents(board, collector);
+                assertThat(collector.events, equalTo(piece.possibleEvents(board)));
+            }
+        }
+    }
+
+    @Test
+    public void a_sink_can_stop_generation_early() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        Collector collector = new Collector(3);
+
+        assertThat(board.pushPotentialGameEvents(Color.WHITE, collector), equalTo(false));
+        assertThat(collector.events, equalTo(board.potentialGameEvents(Color.WHITE).subList(0, 3)));
+    }
+
+    @Test
+    public void a_sink_that_never_stops_sees_every_event() {
+        Collector collector = new Collector(Integer.MAX_VALUE);
+
+        assertThat(new ChessBoard().setBoardForGame().pushPotentialGameEvents(Color.BLACK, collector), equalTo(true));
+        assertThat(collector.events.size(), equalTo(20));
+    }
+
+    private static List<GameEvent> pushed(ChessBoard board, Color color) {
+        Collector collector = new Collector(Integer.MAX_VALUE);
+        board.pushPotentialGameEvents(color, collector);
+        return collector.events;
+    }
+
+    private static final class Collector implements MoveSink {
+        private final List<GameEvent> events = new ArrayList<GameEvent>();
+        private final int limit;
+
+        Collector(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean move(Square source, Square target) {
+            events.add(Sugar.move(source, target));
+            return events.size() < limit;
+        }
+
+        @Override
+        public boolean capture(Square source, Square target, Piece targetedPiece) {
+            events.add(Sugar.capture(source, target, targetedPiece));
+            return events.size() < limit;
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package model.board;
+
+import static model.board.Sugar.capture;
+import static model.board.Sugar.move;
+import static model.board.Sugar.put;
+import static model.board.Sugar.remove;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+
+import model.enums.Color;
+import model.enums.Rank;
+import model.exceptions.ConstructorArgsException;
+import model.piece.Piece;
+
+import org.junit.Test;
+
+public class OverlayBoardTest {
+
+    @Test
+    public void an_overlay_answers_as_the_played_board_does() {
+        for (ChessBoard board : RandomGames.positions(7L, 20, 60)) {
+            for (GameEvent event : board.potentialGameEvents(RandomGames.sideToMove(board))) {
+                assertAgrees(new OverlayBoard(board, event), board.playEvent(event));
+            }
+        }
+    }
+
+    @Test
+    public void an_overlay_of_two_events_answers_as_the_played_board_does() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(move(square(12), square(28)))
+            .playEvent(move(square(51), square(35)));
+        GameEvent first = capture(square(28), square(35), board.pieceAt(square(35)));
+        ChessBoard child = board.playEvent(first);
+
+        for (GameEvent second : child.potentialGameEvents(Color.BLACK)) {
+            assertAgrees(new OverlayBoard(board, first, second), child.playEvent(second));
+        }
+    }
+
+    @Test
+    public void a_captured_piece_is_off_the_overlay() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(move(square(12), square(28)))
+            .playEvent(move(square(51), square(35)));
+        Piece blackPawn = board.pieceAt(square(35));
+
+        OverlayBoard overlay = new OverlayBoard(board, capture(square(28), square(35), blackPawn));
+
+        assertThat(overlay.squareHolding(blackPawn), nullValue());
+        assertThat(overlay.pieceAt(square(28)), nullValue());
+        assertThat(board.squareHolding(blackPawn), equalTo(square(35)));
+    }
+
+    @Test
+    public void a_piece_moved_twice_ends_on_the_last_square() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        Piece knight = board.pieceAt(square(6));
+
+        OverlayBoard overlay = new OverlayBoard(board, move(square(6), square(21)), move(square(21), square(38)));
+
+        assertThat(overlay.squareHolding(knight), equalTo(square(38)));
+        assertThat(overlay.pieceAt(square(21)), nullValue());
+        assertThat(overlay.pieceAt(square(6)), nullValue());
+    }
+
+    @Test
+    public void puts_and_removes_are_overlaid() {
+        ChessBoard board = new ChessBoard().playEvent(put(Color.WHITE, Rank.Queen, square(27)));
+        Piece queen = board.pieceAt(square(27));
+
+        OverlayBoard overlay = new OverlayBoard(board, remove(square(27)), put(Color.BLACK, Rank.King, square(27)));
+
+        assertThat(overlay.squareHolding(queen), nullValue());
+        assertThat(overlay.pieceAt(square(27)).rank(), equalTo(Rank.King));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void moving_from_an_empty_square_is_refused() {
+        new OverlayBoard(new ChessBoard().setBoardForGame(), move(square(27), square(35)));
+    }
+
+    @Test(expected = ConstructorArgsException.class)
+    public void constructor_requires_an_event() {
+        new OverlayBoard(new ChessBoard().setBoardForGame(), null);
+    }
+
+    private static void assertAgrees(OverlayBoard overlay, ChessBoard played) {
+        for (int index = 0; index < 64; index++) {
+            Square square = square(index);
+            assertThat(overlay.pieceAt(square), equalTo(played.pieceAt(square)));
+            for (Color color : Color.values()) {
+                assertThat(Reach.isThreatened(overlay, square, color), equalTo(Reach.isThreatened(played, square,
+                    color)));
+            }
+        }
+        for (Color color : Color.values()) {
+            for (Piece piece : played.piecesFor(color)) {
+                assertThat(overlay.squareHolding(piece), equalTo(played.squareHolding(piece)));
+                assertThat(piece.moveToSquares(overlay), equalTo(piece.moveToSquares(played)));
+                assertThat(piece.threatenedSquares(overlay), equalTo(piece.threatenedSquares(played)));
+            }
+        }
+        for (Color color : Color.values()) {
+            for (Piece piece : overlay.parent().piecesFor(color)) {
+                assertThat(overlay.squareHolding(piece), equalTo(played.squareHolding(piece)));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package model.board;
+
+import static model.board.Sugar.hasMoved;
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Rank;
+import model.enums.Row;
+import model.piece.Piece;
+
+import org.junit.Test;
+
+public class PackedPositionTest {
+
+    private MoveEvent e_2_e_4 = move(square(Column.E, Row.R2), square(Column.E, Row.R4));
+    private MoveEvent d_7_d_5 = move(square(Column.D, Row.R7), square(Column.D, Row.R5));
+    private MoveEvent g_1_f_3 = move(square(Column.G, Row.R1), square(Column.F, Row.R3));
+
+    @Test
+    public void it_is_thirty_three_bytes_on_the_wire() {
+        PackedPosition packed = PackedPosition.of(new ChessBoard().setBoardForGame());
+
+        assertThat(packed.toBytes().length, equalTo(PackedPosition.BYTES));
+        assertThat(PackedPosition.fromBytes(packed.toBytes()), equalTo(packed));
+    }
+
+    @Test
+    public void it_reads_back_what_it_writes_to_a_buffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(PackedPosition.BYTES * 2);
+        PackedPosition start = PackedPosition.of(new ChessBoard().setBoardForGame());
+        PackedPosition played = PackedPosition.of(new ChessBoard().setBoardForGame().playEvent(e_2_e_4));
+        start.write(buffer);
+        played.write(buffer);
+        buffer.flip();
+
+        assertThat(PackedPosition.read(buffer), equalTo(start));
+        assertThat(PackedPosition.read(buffer), equalTo(played));
+    }
+
+    @Test
+    public void boards_with_the_same_position_pack_equal_whatever_their_history() {
+        ChessBoard start = new ChessBoard().setBoardForGame();
+        ChessBoard there = start.playEvent(g_1_f_3);
+        ChessBoard andBack = there.playEvent(move(square(Column.G, Row.R8), square(Column.F, Row.R6)))
+            .playEvent(move(square(Column.F, Row.R3), square(Column.G, Row.R1)))
+            .playEvent(move(square(Column.F, Row.R6), square(Column.G, Row.R8)));
+
+        assertThat(PackedPosition.of(andBack), equalTo(PackedPosition.of(start)));
+        assertThat(PackedPosition.of(andBack).hashCode(), equalTo(PackedPosition.of(start).hashCode()));
+        assertThat(PackedPosition.of(there).equals(PackedPosition.of(start)), equalTo(false));
+    }
+
+    @Test
+    public void the_set_flag_is_part_of_the_position() {
+        ChessBoard unset = new ChessBoard().playEvent(Sugar.put(Color.WHITE, Rank.King, square(Column.E, Row.R1)));
+
+        assertThat(PackedPosition.of(unset).boardIsSet(), equalTo(false));
+        assertThat(PackedPosition.of(unset).equals(PackedPosition.of(unset.setBoardForGameInProgress())),
+            equalTo(false));
+    }
+
+    @Test
+    public void it_decodes_to_a_board_with_the_same_pieces() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(e_2_e_4).playEvent(d_7_d_5)
+            .playEvent(g_1_f_3);
+
+        ChessBoard decoded = PackedPosition.of(board).toBoard();
+
+        assertThat(decoded.boardIsSet(), equalTo(true));
+        assertThat(decoded.gameEvents().isEmpty(), equalTo(true));
+        for (int index = 0; index < 64; index++) {
+            Piece piece = board.pieceAt(square(index));
+            Piece decodedPiece = decoded.pieceAt(square(index));
+            if (piece == null) {
+                assertThat(decodedPiece == null, equalTo(true));
+            } else {
+                assertThat(decodedPiece.color(), equalTo(piece.color()));
+                assertThat(decodedPiece.rank(), equalTo(piece.rank()));
+                assertThat(hasMoved(decodedPiece, square(index)), equalTo(piece.rank() == Rank.Pawn
+                    && hasMoved(piece, square(index))));
+            }
+        }
+        assertThat(PackedPosition.of(decoded), equalTo(PackedPosition.of(board)));
+    }
+
+    @Test
+    public void a_decoded_board_plays_on() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(e_2_e_4).playEvent(d_7_d_5);
+        ChessBoard decoded = PackedPosition.of(board).toBoard();
+
+        assertThat(decoded.potentialGameEvents(Color.WHITE).size(),
+            equalTo(board.potentialGameEvents(Color.WHITE).size()));
+        assertThat(PackedPosition.of(decoded.playEvent(g_1_f_3)), equalTo(PackedPosition.of(board.playEvent(g_1_f_3))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void it_rejects_bytes_of_the_wrong_length() {
+        PackedPosition.fromBytes(new byte[32]);
+    }
+
+}
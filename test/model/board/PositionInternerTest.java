@@ -0,0 +1,106 @@
+package model.board;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Row;
+
+import org.junit.Test;
+
+public class PositionInternerTest {
+
+    private MoveEvent g_1_f_3 = move(square(Column.G, Row.R1), square(Column.F, Row.R3));
+    private MoveEvent g_8_f_6 = move(square(Column.G, Row.R8), square(Column.F, Row.R6));
+    private MoveEvent f_3_g_1 = move(square(Column.F, Row.R3), square(Column.G, Row.R1));
+    private MoveEvent f_6_g_8 = move(square(Column.F, Row.R6), square(Column.G, Row.R8));
+
+    @Test
+    public void equal_positions_share_one_backing_map() {
+        PositionInterner interner = new PositionInterner();
+        ChessBoard first = new ChessBoard().setBoardForGame().playEvent(g_1_f_3);
+        ChessBoard second = new ChessBoard().setBoardForGame().playEvent(g_1_f_3);
+
+        ChessBoard internedFirst = interner.intern(first);
+        ChessBoard internedSecond = interner.intern(second);
+
+        assertThat(internedFirst == first, equalTo(true));
+        assertThat(internedSecond.backingMap() == first.backingMap(), equalTo(true));
+        assertThat(internedSecond, equalTo(second));
+    }
+
+    @Test
+    public void interned_boards_share_what_is_worked_out_for_their_position() {
+        PositionInterner interner = new PositionInterner();
+        ChessBoard start = new ChessBoard().setBoardForGame();
+        ChessBoard first = interner.intern(start.playEvent(g_1_f_3));
+        List<GameEvent> legal = first.legalGameEvents(Color.BLACK);
+        BoardAnalysis analysis = first.analysis();
+
+        ChessBoard second = interner.intern(start.playEvent(g_1_f_3));
+
+        assertThat(second.legalGameEvents(Color.BLACK) == legal, equalTo(true));
+        assertThat(second.analysis() == analysis, equalTo(true));
+    }
+
+    @Test
+    public void interning_keeps_the_board_history() {
+        PositionInterner interner = new PositionInterner();
+        ChessBoard start = interner.intern(new ChessBoard().setBoardForGame());
+        ChessBoard andBack = start.playEvent(g_1_f_3).playEvent(g_8_f_6).playEvent(f_3_g_1).playEvent(f_6_g_8);
+
+        ChessBoard interned = interner.intern(andBack);
+
+        assertThat(interned.backingMap() == start.backingMap(), equalTo(true));
+        assertThat(interned.gameEvents(), equalTo(andBack.gameEvents()));
+        assertThat(interned.boardIsSet(), equalTo(true));
+    }
+
+    @Test
+    public void bytes_saved_counts_each_backing_map_given_up() {
+        PositionInterner interner = new PositionInterner();
+        ChessBoard start = new ChessBoard().setBoardForGame();
+        interner.intern(start.playEvent(g_1_f_3));
+        ChessBoard duplicate = start.playEvent(g_1_f_3);
+        long bytes = duplicate.backingMap().bytes();
+
+        interner.intern(duplicate);
+
+        assertThat(interner.bytesSaved(), equalTo(bytes));
+        assertThat(bytes >= 64 * 4 + 12 * 8, equalTo(true));
+    }
+
+    @Test
+    public void it_reports_hits_and_bytes_saved() {
+        PositionInterner interner = new PositionInterner();
+        ChessBoard start = new ChessBoard().setBoardForGame();
+        interner.intern(start.playEvent(g_1_f_3));
+        interner.intern(start.playEvent(g_1_f_3));
+        interner.intern(start.playEvent(g_1_f_3));
+        interner.intern(start.playEvent(g_8_f_6));
+
+        assertThat(interner.hits(), equalTo(2L));
+        assertThat(interner.misses(), equalTo(2L));
+        assertThat(interner.hitRate(), equalTo(0.5));
+        assertThat(interner.bytesSaved() > 0, equalTo(true));
+    }
+
+    @Test
+    public void re_interning_an_interned_board_counts_as_a_hit_without_bytes_saved() {
+        PositionInterner interner = new PositionInterner();
+        ChessBoard interned = interner.intern(new ChessBoard().setBoardForGame().playEvent(g_1_f_3));
+
+        ChessBoard again = interner.intern(interned);
+
+        assertThat(again == interned, equalTo(true));
+        assertThat(interner.hits(), equalTo(1L));
+        assertThat(interner.misses(), equalTo(1L));
+        assertThat(interner.bytesSaved(), equalTo(0L));
+    }
+
+}
@@ -0,0 +1,72 @@
+package model.board;
+
+import static model.board.RandomGames.uncached;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import model.enums.Color;
+
+import org.junit.Test;
+
+public class PotentialEventSpliteratorTest {
+
+    @Test
+    public void streams_match_the_event_lists() {
+        for (ChessBoard board : RandomGames.legalPositions(48L, 20, 60)) {
+            for (Color color : Color.values()) {
+                assertThat(uncached(board).potentialGameEventsStream(color).collect(Collectors.<GameEvent> toList()),
+                    equalTo(board.potentialGameEvents(color)));
+                assertThat(uncached(board).legalGameEventsStream(color).collect(Collectors.<GameEvent> toList()),
+                    equalTo(board.legalGameEvents(color)));
+            }
+        }
+    }
+
+    @Test
+    public void finding_the_first_event_leaves_later_pieces_alone() {
+        ChessBoard board = uncached(new ChessBoard().setBoardForGame());
+
+        GameEvent first = board.potentialGameEventsStream(Color.WHITE).findFirst().get();
+
+        assertThat(first, equalTo(Sugar.move(square(1), square(18))));
+        assertThat(board.possibleEventsCached(square(1)) == null, equalTo(false));
+        assertThat(board.possibleEventsCached(square(2)) == null, equalTo(true));
+    }
+
+    @Test
+    public void a_parallel_stream_keeps_the_order() {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(Sugar.move(square(12), square(28)));
+
+        assertThat(uncached(board).potentialGameEventsStream(Color.WHITE).parallel()
+            .collect(Collectors.<GameEvent> toList()), equalTo(board.potentialGameEvents(Color.WHITE)));
+    }
+
+    @Test
+    public void a_spliterator_splits_between_pieces() {
+        ChessBoard board = uncached(new ChessBoard().setBoardForGame());
+        Spliterator<GameEvent> second = board.potentialGameEventsSpliterator(Color.WHITE);
+        Spliterator<GameEvent> first = second.trySplit();
+
+        final List<GameEvent> events = new ArrayList<GameEvent>();
+        Consumer<GameEvent> collector = new Consumer<GameEvent>() {
+            @Override
+            public void accept(GameEvent event) {
+                events.add(event);
+            }
+        };
+        first.forEachRemaining(collector);
+        int firstHalf = events.size();
+        second.forEachRemaining(collector);
+
+        assertThat(firstHalf, equalTo(4));
+        assertThat(events, equalTo(board.potentialGameEvents(Color.WHITE)));
+    }
+
+}
@@ -0,0 +1,109 @@
+package model.board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import model.enums.Color;
+import model.enums.GameEventType;
+import model.enums.Rank;
+import model.enums.Row;
+import model.piece.Piece;
+
+/**
+ * Positions reached by random games from the standard setup, for tests that
+ * check one way of answering a query against another.
+ * <p>
+ * White moves first. Each ply picks an event of the side to move at random,
+ * from its potential or its legal events. A game stops early when that side
+ * has none, or before a pawn would reach its last row, where the board would
+ * leave it unpromoted.
+ */
+public final class RandomGames {
+
+    /**
+     * Every position of the games, the starting one included, picking among
+     * potential events.
+     */
+    public static List<ChessBoard> positions(long seed, int games, int plies) {
+        return positions(seed, games, plies, false);
+    }
+
+    /**
+     * As {@link #positions(long, int, int)}, picking among legal events.
+     */
+    public static List<ChessBoard> legalPositions(long seed, int games, int plies) {
+        return positions(seed, games, plies, true);
+    }
+
+    /**
+     * The last position of one game of up to the given number of plies,
+     * picking among legal events.
+     */
+    public static ChessBoard legalGame(Random random, int plies) {
+        return play(random, plies, true, null);
+    }
+
+    private static List<ChessBoard> positions(long seed, int games, int plies, boolean legal) {
+        Random random = new Random(seed);
+        List<ChessBoard> positions = new ArrayList<ChessBoard>();
+        for (int game = 0; game < games; game++) {
+            play(random, plies, legal, positions);
+        }
+        return positions;
+    }
+
+    private static ChessBoard play(Random random, int plies, boolean legal, List<ChessBoard> positions) {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        for (int ply = 0; ply < plies; ply++) {
+            if (positions != null) {
+                positions.add(board);
+            }
+            Color color = sideToMove(board);
+            List<GameEvent> events = legal ? board.legalGameEvents(color) : board.potentialGameEvents(color);
+            if (events.isEmpty()) {
+                return board;
+            }
+            GameEvent event = events.get(random.nextInt(events.size()));
+            if (promotes(board, event)) {
+                return board;
+            }
+            board = board.playEvent(event);
+        }
+        if (positions != null) {
+            positions.add(board);
+        }
+        return board;
+    }
+
+    /**
+     * The color to move after the board's moves and captures, White moving
+     * first.
+     */
+    public static Color sideToMove(ChessBoard board) {
+        int plies = 0;
+        for (GameEvent event : board.gameEvents()) {
+            if (event.type() == GameEventType.MOVE || event.type() == GameEventType.CAPTURE) {
+                plies++;
+            }
+        }
+        return plies % 2 == 0 ? Color.WHITE : Color.BLACK;
+    }
+
+    /**
+     * Whether the event takes a pawn to the first or last row.
+     */
+    public static boolean promotes(ChessBoard board, GameEvent event) {
+        Piece piece = board.pieceAt(event.source());
+        Row targetRow = event.target().row();
+        return piece.rank() == Rank.Pawn && (targetRow == Row.R1 || targetRow == Row.R8);
+    }
+
+    /**
+     * A board in the same position with nothing worked out yet.
+     */
+    static ChessBoard uncached(ChessBoard board) {
+        return new ChessBoard(board.gameEvents(), board.backingMap(), board.boardIsSet());
+    }
+
+}
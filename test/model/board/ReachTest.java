@@ -0,0 +1,135 @@
+package model.board;
+
+import static model.board.Reach.canCapture;
+import static model.board.Reach.canMove;
+import static model.board.Reach.isThreatened;
+import static model.board.Sugar.put;
+import static model.board.Sugar.square;
+import static model.board.views.RankViewFactory.rankView;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import model.board.views.RankView;
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Rank;
+import model.enums.Row;
+import model.piece.Piece;
+
+import org.junit.Test;
+
+public class ReachTest {
+
+    private Square d_1 = square(Column.D, Row.R1);
+    private Square d_4 = square(Column.D, Row.R4);
+    private Square d_7 = square(Column.D, Row.R7);
+    private Square h_5 = square(Column.H, Row.R5);
+
+    @Test
+    public void a_queen_cannot_move_through_a_pawn() {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        Piece w_queen = board.pieceAt(d_1);
+
+        assertFalse(canMove(board, w_queen, d_1, d_4));
+        assertFalse(canMove(board, w_queen, d_1, h_5));
+    }
+
+    @Test
+    public void a_queen_captures_along_an_open_line() {
+        ChessBoard board = new ChessBoard().playEvent(put(Color.WHITE, Rank.Queen, d_4));
+        board = board.playEvent(put(Color.BLACK, Rank.Pawn, d_7));
+        Piece w_queen = board.pieceAt(d_4);
+
+        assertTrue(canCapture(board, w_queen, d_4, d_7));
+        assertFalse(canMove(board, w_queen, d_4, h_5));
+        assertTrue(canMove(board, w_queen, d_4, square(Column.H, Row.R8)));
+    }
+
+    @Test
+    public void it_agrees_with_rank_views_on_random_positions() {
+        Random random = new Random(1234L);
+
+        for (int i = 0; i < 200; i++) {
+            ChessBoard board = randomBoard(random);
+
+            for (Color color : Color.values()) {
+                List<Square> threatenedSquares = new ArrayList<Square>();
+                for (Piece piece : board.piecesFor(color)) {
+                    Square source = board.squareHolding(piece);
+                    RankView view = rankView(piece, board);
+                    threatenedSquares.addAll(view.threatenedSquares());
+
+                    for (int index = 0; index < 64; index++) {
+                        Square target = square(index);
+                        assertThat(canMove(board, piece, source, target),
+                            equalTo(view.moveToSquares().contains(target)));
+                        assertThat(canCapture(board, piece, source, target),
+                            equalTo(view.squaresHoldingPiecesAttacked().contains(target)));
+                    }
+                }
+                for (int index = 0; index < 64; index++) {
+                    assertThat(isThreatened(board, square(index), color),
+                        equalTo(threatenedSquares.contains(square(index))));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void checkers_agree_with_rank_views_on_random_positions() {
+        Random random = new Random(4321L);
+
+        for (int i = 0; i < 200; i++) {
+            ChessBoard board = randomBoard(random);
+
+            for (Color color : Color.values()) {
+                Set<Piece> attackers = new HashSet<Piece>();
+                for (Piece piece : board.piecesFor(color)) {
+                    if (piece.rank() == Rank.King) {
+                        attackers.addAll(piece.opponentsAttackingMe(board));
+                    }
+                }
+                assertThat(new HashSet<Piece>(board.checkers(color)), equalTo(attackers));
+                assertThat(board.isInCheck(color), equalTo(!attackers.isEmpty()));
+            }
+        }
+    }
+
+    private ChessBoard randomBoard(Random random) {
+        ChessBoard board = new ChessBoard();
+        int pieces = 4 + random.nextInt(20);
+
+        for (int i = 0; i < pieces; i++) {
+            Rank rank = Rank.values()[random.nextInt(Rank.values().length)];
+            Color color = Color.values()[random.nextInt(2)];
+            int row = rank == Rank.Pawn ? 2 + random.nextInt(4) : random.nextInt(8);
+            Square square = square(row * 8 + random.nextInt(8));
+
+            if (board.pieceAt(square) == null) {
+                board = board.playEvent(put(color, rank, square));
+            }
+        }
+        board = board.setBoardForGameInProgress();
+
+        for (int ply = 0; ply < 8; ply++) {
+            List<GameEvent> events = board.potentialGameEvents(Color.values()[ply % 2]);
+            if (events.isEmpty()) {
+                continue;
+            }
+            GameEvent event = events.get(random.nextInt(events.size()));
+            if (!RandomGames.promotes(board, event)) {
+                board = board.playEvent(event);
+            }
+        }
+        return board;
+    }
+
+}
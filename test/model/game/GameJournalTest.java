@@ -0,0 +1,214 @@
+package model.game;
+
+import static model.board.Sugar.capture;
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import model.board.ChessBoard;
+import model.board.ChessBoardCodec;
+import model.board.GameEvent;
+import model.board.GameEventCodec;
+import model.board.MoveEvent;
+import model.board.PackedPosition;
+import model.enums.Column;
+import model.enums.Row;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GameJournalTest {
+
+    private MoveEvent e_2_e_4 = move(square(Column.E, Row.R2), square(Column.E, Row.R4));
+    private MoveEvent d_7_d_5 = move(square(Column.D, Row.R7), square(Column.D, Row.R5));
+
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempFile("game-journal", ".log");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void it_recovers_every_active_game() throws IOException {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        ChessBoard played = board.playEvent(e_2_e_4).playEvent(d_7_d_5);
+        GameEvent exd5 = capture(e_2_e_4.target(), d_7_d_5.target(), played.pieceAt(d_7_d_5.target()));
+        played = played.playEvent(exd5);
+
+        GameJournal journal = new GameJournal(path, 1, TimeUnit.MILLISECONDS);
+        journal.startGame(1L, board);
+        journal.startGame(2L, board);
+        journal.append(1L, e_2_e_4);
+        journal.append(1L, d_7_d_5);
+        journal.append(1L, exd5);
+        journal.close();
+
+        Map<Long, ChessBoard> boards = GameJournal.recover(path);
+
+        assertThat(boards.size(), equalTo(2));
+        assertThat(boards.get(1L), equalTo(played));
+        assertThat(boards.get(2L), equalTo(board));
+    }
+
+    @Test
+    public void a_game_journaled_in_progress_is_recovered() throws IOException {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(e_2_e_4).playEvent(d_7_d_5);
+
+        GameJournal journal = new GameJournal(path, 0, TimeUnit.MILLISECONDS);
+        journal.startGame(1L, board);
+        journal.startGame(2L, new ChessBoard().setBoardForGame());
+        journal.close();
+
+        Map<Long, ChessBoard> boards = GameJournal.recover(path);
+
+        assertThat(boards.get(1L), equalTo(board));
+        assertThat(boards.get(2L), equalTo(new ChessBoard().setBoardForGame()));
+    }
+
+    @Test
+    public void a_set_board_without_events_is_recovered() throws IOException {
+        ChessBoard board = PackedPosition.of(new ChessBoard().setBoardForGame().playEvent(e_2_e_4)).toBoard();
+
+        GameJournal journal = new GameJournal(path, 0, TimeUnit.MILLISECONDS);
+        journal.startGame(7L, board);
+        journal.startGame(8L, new ChessBoard().setBoardForGame());
+        journal.append(7L, d_7_d_5);
+        journal.close();
+
+        Map<Long, ChessBoard> boards = GameJournal.recover(path);
+
+        assertSamePosition(boards.get(7L), board.playEvent(d_7_d_5));
+        assertThat(boards.get(8L), equalTo(new ChessBoard().setBoardForGame()));
+    }
+
+    @Test
+    public void a_board_whose_events_do_not_start_from_an_empty_board_is_recovered() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChessBoardCodec.writePosition(new ChessBoard().setBoardForGame().playEvent(e_2_e_4), new DataOutputStream(
+            bytes));
+        ChessBoard position = ChessBoardCodec.readPosition(new DataInputStream(new ByteArrayInputStream(bytes
+            .toByteArray())));
+        ChessBoard board = position.playEvent(d_7_d_5);
+
+        GameJournal journal = new GameJournal(path, 0, TimeUnit.MILLISECONDS);
+        journal.startGame(1L, board);
+        journal.close();
+
+        assertSamePosition(GameJournal.recover(path).get(1L), board);
+    }
+
+    @Test
+    public void a_set_record_after_a_games_moves_is_ignored() throws IOException {
+        ChessBoard board = new ChessBoard().setBoardForGame().playEvent(e_2_e_4);
+        ByteBuffer records = ByteBuffer.allocate(GameJournal.RECORD_SIZE * (board.gameEvents().size() + 1));
+        for (GameEvent event : board.gameEvents()) {
+            GameJournal.putRecord(records, 1L, GameJournal.EVENT, GameEventCodec.encode(event));
+        }
+        GameJournal.putRecord(records, 1L, GameJournal.SET, 0);
+        Files.write(path, records.array());
+
+        assertThat(GameJournal.recover(path).get(1L), equalTo(board));
+    }
+
+    @Test
+    public void ended_games_are_not_recovered() throws IOException {
+        GameJournal journal = new GameJournal(path, 0, TimeUnit.MILLISECONDS);
+        journal.startGame(1L, new ChessBoard().setBoardForGame());
+        journal.startGame(2L, new ChessBoard().setBoardForGame());
+        journal.endGame(1L);
+        journal.close();
+
+        Map<Long, ChessBoard> boards = GameJournal.recover(path);
+
+        assertThat(boards.size(), equalTo(1));
+        assertThat(boards.containsKey(2L), equalTo(true));
+    }
+
+    @Test
+    public void concurrent_games_share_the_journal() throws Exception {
+        final GameJournal journal = new GameJournal(path, 2, TimeUnit.MILLISECONDS);
+        List<Thread> threads = new ArrayList<Thread>();
+
+        for (int i = 0; i < 8; i++) {
+            final long gameId = i;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        journal.startGame(gameId, new ChessBoard().setBoardForGame());
+                        journal.append(gameId, e_2_e_4);
+                        journal.append(gameId, d_7_d_5);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        journal.close();
+
+        ChessBoard expected = new ChessBoard().setBoardForGame().playEvent(e_2_e_4).playEvent(d_7_d_5);
+        Map<Long, ChessBoard> boards = GameJournal.recover(path);
+        assertThat(boards.size(), equalTo(8));
+        for (ChessBoard board : boards.values()) {
+            assertThat(board, equalTo(expected));
+        }
+    }
+
+    @Test
+    public void a_torn_last_record_is_ignored_and_cut_off() throws IOException {
+        GameJournal journal = new GameJournal(path, 0, TimeUnit.MILLISECONDS);
+        journal.startGame(1L, new ChessBoard().setBoardForGame());
+        journal.append(1L, e_2_e_4);
+        journal.close();
+
+        long length = Files.size(path);
+        RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw");
+        file.setLength(length - 5);
+        file.close();
+
+        ChessBoard expected = new ChessBoard().setBoardForGame();
+        assertThat(GameJournal.recover(path).get(1L), equalTo(expected));
+
+        journal = new GameJournal(path, 0, TimeUnit.MILLISECONDS);
+        journal.append(1L, e_2_e_4);
+        journal.close();
+
+        assertThat(Files.size(path), equalTo(length));
+        assertThat(GameJournal.recover(path).get(1L), equalTo(expected.playEvent(e_2_e_4)));
+    }
+
+    private static void assertSamePosition(ChessBoard actual, ChessBoard expected) {
+        assertThat(actual.boardIsSet(), equalTo(expected.boardIsSet()));
+        for (int index = 0; index < 64; index++) {
+            assertThat(actual.pieceAt(square(index)), equalTo(expected.pieceAt(square(index))));
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+package model.game;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import model.board.ChessBoard;
+import model.board.MoveEvent;
+import model.board.PackedPosition;
+import model.enums.Column;
+import model.enums.Row;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GameStoreTest {
+
+    private MoveEvent e_2_e_4 = move(square(Column.E, Row.R2), square(Column.E, Row.R4));
+    private MoveEvent d_7_d_5 = move(square(Column.D, Row.R7), square(Column.D, Row.R5));
+    private MoveEvent g_1_f_3 = move(square(Column.G, Row.R1), square(Column.F, Row.R3));
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("game-store");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        for (File file : directory.toFile().listFiles()) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    public void it_recovers_from_the_journal_alone_before_any_snapshot() throws IOException {
+        GameStore store = new GameStore(directory, 0, TimeUnit.MILLISECONDS, 1000);
+        store.startGame(1L, new ChessBoard().setBoardForGame());
+        store.append(1L, e_2_e_4);
+        store.close();
+
+        GameStore.Recovery recovery = GameStore.recover(directory);
+
+        assertThat(recovery.snapshot(), equalTo(-1L));
+        assertThat(recovery.boards().get(1L), equalTo(new ChessBoard().setBoardForGame().playEvent(e_2_e_4)));
+    }
+
+    @Test
+    public void it_recovers_from_the_latest_snapshot_and_later_segments() throws IOException {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+
+        GameStore store = new GameStore(directory, 0, TimeUnit.MILLISECONDS, 40);
+        store.startGame(1L, board);
+        store.startGame(2L, board);
+        store.startGame(3L, board);
+        store.append(1L, e_2_e_4);
+        store.append(1L, d_7_d_5);
+        store.endGame(2L);
+        store.append(3L, g_1_f_3);
+        store.close();
+
+        GameStore.Recovery recovery = GameStore.recover(directory);
+
+        assertThat(recovery.snapshot() > 0, equalTo(true));
+        assertThat(recovery.boards().size(), equalTo(2));
+        assertSamePosition(recovery.boards().get(1L), board.playEvent(e_2_e_4).playEvent(d_7_d_5));
+        assertSamePosition(recovery.boards().get(3L), board.playEvent(g_1_f_3));
+        assertThat(store.snapshotFailure(), nullValue());
+    }
+
+    @Test
+    public void superseded_segments_and_snapshots_are_deleted() throws IOException {
+        GameStore store = new GameStore(directory, 0, TimeUnit.MILLISECONDS, 40);
+        for (long gameId = 0; gameId < 5; gameId++) {
+            store.startGame(gameId, new ChessBoard().setBoardForGame());
+        }
+        store.close();
+
+        GameStore.Recovery recovery = GameStore.recover(directory);
+
+        assertThat(recovery.boards().size(), equalTo(5));
+        assertThat(recovery.segmentsReplayed(), equalTo(1));
+        assertThat(directory.toFile().list().length, equalTo(2));
+    }
+
+    @Test
+    public void a_reopened_store_keeps_the_games_already_journaled() throws IOException {
+        ChessBoard board = new ChessBoard().setBoardForGame();
+
+        GameStore store = new GameStore(directory, 0, TimeUnit.MILLISECONDS, 40);
+        store.startGame(1L, board);
+        store.startGame(2L, board);
+        store.close();
+
+        store = new GameStore(directory, 0, TimeUnit.MILLISECONDS, 40);
+        store.append(2L, e_2_e_4);
+        store.close();
+
+        GameStore.Recovery recovery = GameStore.recover(directory);
+
+        assertSamePosition(recovery.boards().get(1L), board);
+        assertSamePosition(recovery.boards().get(2L), board.playEvent(e_2_e_4));
+    }
+
+    @Test
+    public void a_set_board_without_events_is_recovered() throws IOException {
+        ChessBoard board = PackedPosition.of(new ChessBoard().setBoardForGame().playEvent(e_2_e_4)).toBoard();
+
+        GameStore store = new GameStore(directory, 0, TimeUnit.MILLISECONDS, 1000);
+        store.startGame(1L, board);
+        store.append(1L, d_7_d_5);
+        store.close();
+
+        assertSamePosition(GameStore.recover(directory).boards().get(1L), board.playEvent(d_7_d_5));
+    }
+
+    @Test
+    public void a_snapshot_holds_positions_not_histories() throws IOException {
+        ChessBoard played = new ChessBoard().setBoardForGame();
+        for (int i = 0; i < 20; i++) {
+            played = played.playEvent(move(square(Column.G, Row.R1), square(Column.F, Row.R3)))
+                .playEvent(move(square(Column.G, Row.R8), square(Column.F, Row.R6)))
+                .playEvent(move(square(Column.F, Row.R3), square(Column.G, Row.R1)))
+                .playEvent(move(square(Column.F, Row.R6), square(Column.G, Row.R8)));
+        }
+
+        GameStore store = new GameStore(directory, 0, TimeUnit.MILLISECONDS, 40);
+        store.startGame(1L, played);
+        store.append(1L, e_2_e_4);
+        store.close();
+
+        GameStore.Recovery recovery = GameStore.recover(directory);
+
+        assertThat(recovery.snapshot() > 0, equalTo(true));
+        assertThat(Files.size(directory.resolve("snapshot-" + recovery.snapshot())) < 200, equalTo(true));
+        assertSamePosition(recovery.boards().get(1L), played.playEvent(e_2_e_4));
+        assertThat(recovery.boards().get(1L).gameEvents().size(), equalTo(1));
+    }
+
+    private static void assertSamePosition(ChessBoard actual, ChessBoard expected) {
+        assertThat(actual.boardIsSet(), equalTo(expected.boardIsSet()));
+        for (int index = 0; index < 64; index++) {
+            assertThat(actual.pieceAt(square(index)), equalTo(expected.pieceAt(square(index))));
+        }
+    }
+
+}
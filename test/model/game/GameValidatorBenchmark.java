@@ -0,0 +1,73 @@
+package model.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import model.board.GameEvent;
+import model.board.RandomGames;
+
+/**
+ * Times {@link GameValidator} on a batch of random legal games, in games per
+ * second, at parallelism 1, 2, 4 and the number of available processors, for a
+ * range of task sizes. Run with {@code java model.game.GameValidatorBenchmark};
+ * it is not part of the test suite.
+ */
+public class GameValidatorBenchmark {
+
+    private static final int GAMES = 4000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int RUNS = 3;
+    private static final int[] TASK_SIZES = { 1, 2, 4, 8, 16, 32, 64 };
+
+    public static void main(String[] args) {
+        List<List<GameEvent>> games = games();
+        int processors = Runtime.getRuntime().availableProcessors();
+        TreeSet<Integer> parallelisms = new TreeSet<Integer>();
+        parallelisms.add(1);
+        parallelisms.add(2);
+        parallelisms.add(4);
+        parallelisms.add(processors);
+
+        System.out.println(games.size() + " games on " + processors + " available processors");
+        System.out.printf("%-12s", "parallelism");
+        for (int taskSize : TASK_SIZES) {
+            System.out.printf("%10s", taskSize + "/task");
+        }
+        System.out.println();
+
+        int sink = 0;
+        for (int parallelism : parallelisms) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            System.out.printf("%-12d", parallelism);
+            for (int taskSize : TASK_SIZES) {
+                GameValidator validator = new GameValidator(pool, taskSize);
+                for (int run = 0; run < WARMUP_RUNS; run++) {
+                    sink += validator.validateGames(games).gameReports().size();
+                }
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    sink += validator.validateGames(games).gameReports().size();
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                System.out.printf("%10.0f", games.size() * 1e9 / best);
+            }
+            System.out.println();
+            pool.shutdown();
+        }
+        System.out.println("games/s (" + sink + ")");
+    }
+
+    private static List<List<GameEvent>> games() {
+        Random random = new Random(26L);
+        List<List<GameEvent>> games = new ArrayList<List<GameEvent>>();
+        for (int game = 0; game < GAMES; game++) {
+            games.add(RandomGames.legalGame(random, 40 + random.nextInt(40)).gameEvents());
+        }
+        return games;
+    }
+
+}
@@ -0,0 +1,110 @@
+package model.game;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.board.BoardSetter;
+import model.board.ChessBoard;
+import model.board.GameEvent;
+import model.board.MoveEvent;
+import model.enums.Column;
+import model.enums.Row;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class GameValidatorTest {
+
+    private MoveEvent e_2_e_4 = move(square(Column.E, Row.R2), square(Column.E, Row.R4));
+    private MoveEvent e_7_e_5 = move(square(Column.E, Row.R7), square(Column.E, Row.R5));
+    private MoveEvent e_2_e_5 = move(square(Column.E, Row.R2), square(Column.E, Row.R5));
+
+    private List<GameEvent> setup;
+    private GameValidator validator;
+
+    @Before
+    public void setUp() {
+        setup = new BoardSetter().setBoard().gameEvents();
+        validator = new GameValidator();
+    }
+
+    @Test
+    public void it_validates_a_legal_game() {
+        ValidationReport report = validator.validateGames(games(game(e_2_e_4, e_7_e_5)));
+
+        assertTrue(report.allValid());
+        assertThat(report.gameReports().get(0).eventsPlayed(), equalTo(34));
+
+        ChessBoard expected = new ChessBoard().setBoardForGame().playEvent(e_2_e_4).playEvent(e_7_e_5);
+        ChessBoard board = report.gameReports().get(0).board();
+        assertThat(board.pieceAt(e_2_e_4.target()), equalTo(expected.pieceAt(e_2_e_4.target())));
+        assertThat(board.pieceAt(e_7_e_5.target()), equalTo(expected.pieceAt(e_7_e_5.target())));
+    }
+
+    @Test
+    public void it_reports_the_event_that_failed() {
+        ValidationReport report = validator.validateGames(games(game(e_2_e_5, e_7_e_5)));
+
+        GameReport gameReport = report.gameReports().get(0);
+        assertFalse(gameReport.isValid());
+        assertThat(gameReport.eventsPlayed(), equalTo(32));
+        assertThat(gameReport.failedEvent(), equalTo((GameEvent) e_2_e_5));
+        assertThat(report.invalidGames().size(), equalTo(1));
+    }
+
+    @Test
+    public void it_keeps_reports_in_submission_order() {
+        List<List<GameEvent>> games = new ArrayList<List<GameEvent>>();
+        for (int i = 0; i < 50; i++) {
+            games.add(i % 7 == 0 ? game(e_2_e_5) : game(e_2_e_4, e_7_e_5));
+        }
+
+        ValidationReport report = validator.validateGames(games);
+
+        assertThat(report.gameCount(), equalTo(50));
+        for (int i = 0; i < 50; i++) {
+            GameReport gameReport = report.gameReports().get(i);
+            assertThat(gameReport.gameIndex(), equalTo(i));
+            assertThat(gameReport.isValid(), equalTo(i % 7 != 0));
+        }
+    }
+
+    @Test
+    public void it_splits_a_stream_of_games() {
+        List<GameEvent> stream = new ArrayList<GameEvent>();
+        stream.addAll(game(e_2_e_4, e_7_e_5));
+        stream.addAll(game(e_2_e_5));
+        stream.addAll(game(e_2_e_4));
+
+        List<List<GameEvent>> games = GameValidator.splitGames(stream);
+
+        assertThat(games.size(), equalTo(3));
+        assertThat(games.get(0).size(), equalTo(34));
+        assertThat(games.get(1).size(), equalTo(33));
+
+        ValidationReport report = validator.validate(stream);
+        assertThat(report.validGameCount(), equalTo(2));
+    }
+
+    private List<GameEvent> game(GameEvent... moves) {
+        List<GameEvent> game = new ArrayList<GameEvent>(setup);
+        for (GameEvent move : moves) {
+            game.add(move);
+        }
+        return game;
+    }
+
+    private List<List<GameEvent>> games(List<GameEvent> game) {
+        List<List<GameEvent>> games = new ArrayList<List<GameEvent>>();
+        games.add(game);
+        return games;
+    }
+
+}
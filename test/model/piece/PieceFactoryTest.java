@@ -0,0 +1,56 @@
+package model.piece;
+
+import static model.board.Sugar.square;
+import static model.piece.PieceFactory.newPiece;
+import static model.piece.PieceFactory.piece;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import model.board.Square;
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Rank;
+import model.enums.Row;
+import model.exceptions.ConstructorArgsException;
+
+import org.junit.Test;
+
+public class PieceFactoryTest {
+
+    @Test
+    public void equal_pieces_are_the_same_instance() {
+        Piece piece = newPiece(Color.WHITE, Rank.Knight, square(Column.G, Row.R1));
+
+        assertThat(newPiece(Color.WHITE, Rank.Knight, square(Column.G, Row.R1)) == piece, equalTo(true));
+        assertThat(newPiece(Color.WHITE, Rank.Knight, new Square(Column.G, Row.R1)) == piece, equalTo(true));
+    }
+
+    @Test
+    public void every_piece_has_its_own_dense_id() {
+        boolean[] seen = new boolean[PieceFactory.PIECE_COUNT];
+        for (Color color : Color.values()) {
+            for (Rank rank : Rank.values()) {
+                for (int index = 0; index < 64; index++) {
+                    Piece piece = newPiece(color, rank, square(index));
+                    assertThat(seen[piece.id()], equalTo(false));
+                    assertThat(piece(piece.id()) == piece, equalTo(true));
+                    seen[piece.id()] = true;
+                }
+            }
+        }
+    }
+
+    @Test
+    public void the_id_is_the_hash_code() {
+        Piece piece = newPiece(Color.BLACK, Rank.Queen, square(Column.D, Row.R8));
+
+        assertThat(piece.hashCode(), equalTo(piece.id()));
+        assertThat(piece.id(), equalTo(Color.BLACK.ordinal() * 384 + Rank.Queen.ordinal() * 64 + 59));
+    }
+
+    @Test(expected = ConstructorArgsException.class)
+    public void it_rejects_nulls() {
+        newPiece(Color.BLACK, null, square(Column.D, Row.R8));
+    }
+
+}
@@ -0,0 +1,136 @@
+package model.piece;
+
+import static model.board.Sugar.move;
+import static model.board.Sugar.square;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.board.ChessBoard;
+import model.board.Square;
+import model.enums.Color;
+import model.enums.Column;
+import model.enums.Row;
+
+/**
+ * Times each Piece query over every piece of a developed middlegame
+ * position. Run with {@code java model.piece.PieceQueryBenchmark}; it is not
+ * part of the test suite.
+ */
+public class PieceQueryBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3000;
+    private static final int ROUNDS = 2000;
+    private static final int RUNS = 3;
+
+    private interface Query {
+        int run(Piece piece, ChessBoard board);
+    }
+
+    public static void main(String[] args) {
+        ChessBoard board = developedPosition();
+        List<Piece> pieces = new ArrayList<Piece>(board.piecesFor(Color.WHITE));
+        pieces.addAll(board.piecesFor(Color.BLACK));
+
+        int sink = 0;
+        for (Map.Entry<String, Query> query : queries().entrySet()) {
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                sink += runAll(query.getValue(), pieces, board);
+            }
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                for (int round = 0; round < ROUNDS; round++) {
+                    sink += runAll(query.getValue(), pieces, board);
+                }
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            System.out.printf("%-24s %8.0f ns/call%n", query.getKey(), best / (double) (ROUNDS * pieces.size()));
+        }
+        System.out.println("(" + sink + ")");
+    }
+
+    private static int runAll(Query query, List<Piece> pieces, ChessBoard board) {
+        int sink = 0;
+        for (Piece piece : pieces) {
+            sink += query.run(piece, board);
+        }
+        return sink;
+    }
+
+    private static Map<String, Query> queries() {
+        Map<String, Query> queries = new LinkedHashMap<String, Query>();
+        queries.put("possibleEvents", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return piece.possibleEvents(board).size();
+            }
+        });
+        queries.put("moveToSquares", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return piece.moveToSquares(board).size();
+            }
+        });
+        queries.put("threatenedSquares", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return piece.threatenedSquares(board).size();
+            }
+        });
+        queries.put("opponentPiecesAttacked", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return piece.opponentPiecesAttacked(board).size();
+            }
+        });
+        queries.put("teammatesDefended", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return piece.teammatesDefended(board).size();
+            }
+        });
+        queries.put("opponentsAttackingMe", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return piece.opponentsAttackingMe(board).size();
+            }
+        });
+        queries.put("teammatesDefendingMe", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return piece.teammatesDefendingMe(board).size();
+            }
+        });
+        queries.put("mobility", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return board.mobility(piece);
+            }
+        });
+        queries.put("threatenedSquareCount", new Query() {
+            @Override
+            public int run(Piece piece, ChessBoard board) {
+                return board.threatenedSquareCount(piece);
+            }
+        });
+        return queries;
+    }
+
+    private static ChessBoard developedPosition() {
+        String[] moves = { "E2E4", "E7E5", "G1F3", "B8C6", "F1C4", "G8F6", "D2D3", "F8C5", "B1C3", "D7D6", "C1G5",
+                "H7H6" };
+        ChessBoard board = new ChessBoard().setBoardForGame();
+        for (String move : moves) {
+            board = board.playEvent(move(at(move.charAt(0), move.charAt(1)), at(move.charAt(2), move.charAt(3))));
+        }
+        return board;
+    }
+
+    private static Square at(char column, char row) {
+        return square(Column.valueOf(String.valueOf(column)), Row.valueOf("R" + row));
+    }
+
+}